@@ -0,0 +1,103 @@
+package com.emailverify.sdk;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Running counters for one client (one API key). Thread-safe.
+ */
+public final class ClientStats {
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder retriesDenied = new LongAdder();
+    private final LongAdder creditsUsed = new LongAdder();
+    private final AtomicLong creditsAvailable = new AtomicLong(-1);
+
+    /**
+     * HTTP attempts sent, including retries.
+     */
+    public long requests() {
+        return requests.sum();
+    }
+
+    /**
+     * Attempts that were retries of an earlier attempt.
+     */
+    public long retries() {
+        return retries.sum();
+    }
+
+    /**
+     * Calls that failed, whether thrown as an exception or returned as an error result
+     * from {@code tryVerify}.
+     */
+    public long failures() {
+        return failures.sum();
+    }
+
+    /**
+     * Responses with status 429.
+     */
+    public long rateLimited() {
+        return rateLimited.sum();
+    }
+
+    /**
+     * Retries skipped because the retry budget was exhausted.
+     */
+    public long retriesDenied() {
+        return retriesDenied.sum();
+    }
+
+    /**
+     * Credits consumed by verify and bulk calls made through this client.
+     */
+    public long creditsUsed() {
+        return creditsUsed.sum();
+    }
+
+    /**
+     * Balance reported by the last {@code getCredits} call, or {@code -1} if unknown.
+     */
+    public long creditsAvailable() {
+        return creditsAvailable.get();
+    }
+
+    void recordRequest() {
+        requests.increment();
+    }
+
+    void recordRetry() {
+        retries.increment();
+    }
+
+    void recordFailure() {
+        failures.increment();
+    }
+
+    void recordRateLimited() {
+        rateLimited.increment();
+    }
+
+    void recordRetryDenied() {
+        retriesDenied.increment();
+    }
+
+    void recordCreditsUsed(int credits) {
+        creditsUsed.add(credits);
+        creditsAvailable.getAndUpdate(available -> available >= 0 ? Math.max(0, available - credits) : available);
+    }
+
+    void recordCreditsAvailable(int available) {
+        creditsAvailable.set(available);
+    }
+
+    @Override
+    public String toString() {
+        return "ClientStats{requests=" + requests() + ", retries=" + retries() + ", failures=" + failures()
+            + ", rateLimited=" + rateLimited() + ", retriesDenied=" + retriesDenied()
+            + ", creditsUsed=" + creditsUsed() + ", creditsAvailable=" + creditsAvailable() + "}";
+    }
+}
@@ -0,0 +1,49 @@
+package com.emailverify.sdk;
+
+import java.time.Duration;
+
+/**
+ * Absolute point in time by which a call, including all retries and backoff, must
+ * finish. Based on {@link System#nanoTime()}, so unaffected by wall-clock changes.
+ */
+public final class Deadline {
+    private final long deadlineNanos;
+
+    private Deadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Deadline {@code budget} from now.
+     */
+    public static Deadline after(Duration budget) {
+        if (budget == null || budget.isNegative()) {
+            throw new IllegalArgumentException("Budget must not be negative");
+        }
+        long nanos = budget.compareTo(Duration.ofDays(365)) > 0 ? Duration.ofDays(365).toNanos() : budget.toNanos();
+        return new Deadline(System.nanoTime() + nanos);
+    }
+
+    /**
+     * Time left, or zero once expired.
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime()));
+    }
+
+    /**
+     * Whole milliseconds left, or zero once expired.
+     */
+    public long remainingMillis() {
+        return Math.max(0, (deadlineNanos - System.nanoTime()) / 1_000_000);
+    }
+
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline{remaining=" + remaining() + "}";
+    }
+}
@@ -1,15 +1,21 @@
 package com.emailverify.sdk;
 
+import com.emailverify.sdk.codec.JsonCodec;
+import com.emailverify.sdk.codec.StreamingJsonCodec;
 import com.emailverify.sdk.exception.*;
+import com.emailverify.sdk.jfr.ApiRequestEvent;
+import com.emailverify.sdk.jfr.BulkPollEvent;
+import com.emailverify.sdk.jfr.RateLimitWaitEvent;
+import com.emailverify.sdk.jfr.RetryBackoffEvent;
+import com.emailverify.sdk.jfr.WebhookSignatureEvent;
 import com.emailverify.sdk.model.*;
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import okhttp3.*;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import java.io.IOException;
+import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
@@ -25,60 +31,175 @@ public class EmailVerifyClient implements AutoCloseable {
     private static final int DEFAULT_RETRIES = 3;
     private static final String USER_AGENT = "emailverify-java/1.0.0";
     private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+    private static final Type ERROR_BODY_TYPE = new TypeReference<Map<String, Object>>() {}.getType();
+    private static final Type WEBHOOK_LIST_TYPE = new TypeReference<List<Webhook>>() {}.getType();
 
     private final String apiKey;
     private final String baseUrl;
     private final int retries;
     private final OkHttpClient httpClient;
-    private final ObjectMapper objectMapper;
+    private final JsonCodec codec;
+    private final boolean ownsTransport;
+    private final RequestScheduler scheduler;
+    private final RetryBudget retryBudget;
+    private final ClientStats stats;
+    private final Priority priority;
+    private final boolean stacklessExceptions;
 
     private EmailVerifyClient(Builder builder) {
         this.apiKey = builder.apiKey;
         this.baseUrl = builder.baseUrl != null ? builder.baseUrl.replaceAll("/$", "") : DEFAULT_BASE_URL;
         this.retries = builder.retries > 0 ? builder.retries : DEFAULT_RETRIES;
+        this.scheduler = new RequestScheduler(
+            builder.maxConcurrentRequests > 0 ? builder.maxConcurrentRequests : Integer.MAX_VALUE,
+            builder.reservedHighPriority,
+            builder.requestsPerSecond > 0 ? new RateLimiter(builder.requestsPerSecond) : null,
+            builder.laneWeights);
+        this.stats = new ClientStats();
+        this.priority = Priority.NORMAL;
+        this.stacklessExceptions = builder.stacklessExceptions;
+        this.retryBudget = builder.retryBudgetRatio >= 0 ? new RetryBudget(builder.retryBudgetRatio, 10) : null;
+
+        this.codec = builder.codec != null ? builder.codec : new StreamingJsonCodec();
+
+        if (builder.httpClient != null) {
+            this.httpClient = builder.httpClient;
+            this.ownsTransport = false;
+        } else {
+            this.httpClient = newHttpClient(builder.timeout != null ? builder.timeout : DEFAULT_TIMEOUT);
+            this.ownsTransport = true;
+        }
+    }
 
-        Duration timeout = builder.timeout != null ? builder.timeout : DEFAULT_TIMEOUT;
-        this.httpClient = new OkHttpClient.Builder()
+    private EmailVerifyClient(EmailVerifyClient parent, Priority priority) {
+        this.apiKey = parent.apiKey;
+        this.baseUrl = parent.baseUrl;
+        this.retries = parent.retries;
+        this.httpClient = parent.httpClient;
+        this.codec = parent.codec;
+        this.ownsTransport = false;
+        this.scheduler = parent.scheduler;
+        this.retryBudget = parent.retryBudget;
+        this.stats = parent.stats;
+        this.priority = priority;
+        this.stacklessExceptions = parent.stacklessExceptions;
+    }
+
+    static OkHttpClient newHttpClient(Duration timeout) {
+        return new OkHttpClient.Builder()
             .connectTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
             .readTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
             .writeTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
             .build();
-
-        this.objectMapper = new ObjectMapper()
-            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
     }
 
     public static Builder builder(String apiKey) {
         return new Builder(apiKey);
     }
 
-    private <T> T request(String method, String path, Object body, Class<T> responseClass) throws EmailVerifyException {
-        return requestWithRetry(method, path, body, responseClass, 1);
+    /**
+     * Request body whose content depends on the time left before the call's deadline,
+     * such as the server-side {@code timeout} hint of {@code /verify}.
+     */
+    private interface DeadlineAwareBody {
+        Object forRemaining(long remainingMillis);
+    }
+
+    private <T> T request(String method, String path, Object body, Type responseType) throws EmailVerifyException {
+        return request(method, path, body, responseType, null);
+    }
+
+    private <T> T request(String method, String path, Object body, Type responseType, Deadline deadline) throws EmailVerifyException {
+        Result<T, ApiError> result = exchange(method, path, body, responseType, deadline);
+        if (result instanceof Result.Err<T, ApiError> err) {
+            throw err.error().toException(stacklessExceptions);
+        }
+        return ((Result.Ok<T, ApiError>) result).value();
     }
 
-    private <T> T request(String method, String path, Object body, TypeReference<T> typeReference) throws EmailVerifyException {
-        return requestWithRetry(method, path, body, typeReference, 1);
+    private <T> Result<T, ApiError> exchange(String method, String path, Object body, Type responseType, Deadline deadline) {
+        Result<T, ApiError> result = exchangeWithRetry(method, path, body, responseType, deadline, 1);
+        if (!result.isOk()) {
+            stats.recordFailure();
+        }
+        return result;
     }
 
-    private <T> T requestWithRetry(String method, String path, Object body, Class<T> responseClass, int attempt) throws EmailVerifyException {
+    private <T> Result<T, ApiError> exchangeWithRetry(String method, String path, Object body, Type responseType,
+                                                      Deadline deadline, int attempt) {
+        if (deadline != null && deadline.isExpired()) {
+            return Result.err(deadlineExceeded(method, path));
+        }
+        RateLimitWaitEvent wait = new RateLimitWaitEvent();
+        wait.begin();
+        try {
+            boolean acquired = scheduler.acquire(priority, deadline != null ? deadline.remaining().toNanos() : -1);
+            wait.completeClientWait(path, attempt);
+            if (!acquired) {
+                return Result.err(deadlineExceeded(method, path));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Result.err(new ApiError("INTERRUPTED", "Interrupted while waiting for a request slot", 0));
+        }
+
+        ApiRequestEvent event = new ApiRequestEvent();
+        event.begin();
+        Call call = null;
+        Response response = null;
+        byte[] responseBytes = null;
         try {
-            Response response = executeRequest(method, path, body);
-            return handleResponse(response, method, path, body, responseClass, null, attempt);
+            call = newCall(method, path, body, deadline, attempt);
+            if (call == null) {
+                return Result.err(deadlineExceeded(method, path));
+            }
+            response = call.execute();
+            ResponseBody responseBody = response.body();
+            responseBytes = responseBody != null ? responseBody.bytes() : new byte[0];
         } catch (IOException e) {
-            throw new EmailVerifyException("Network error: " + e.getMessage(), "NETWORK_ERROR", 0);
+            return Result.err(networkError(method, path, deadline, e));
+        } finally {
+            // Released before any retry backoff so sleeping retries don't hold a slot.
+            scheduler.release(priority);
+            if (call != null) {
+                event.complete(method, path, response != null ? response.code() : 0, requestBytes(call),
+                    responseBytes != null ? responseBytes.length : 0, attempt, priority.name());
+            }
         }
+        return handleResponse(response, responseBytes, method, path, body, responseType, deadline, attempt);
     }
 
-    private <T> T requestWithRetry(String method, String path, Object body, TypeReference<T> typeReference, int attempt) throws EmailVerifyException {
+    private static long requestBytes(Call call) {
+        RequestBody body = call.request().body();
         try {
-            Response response = executeRequest(method, path, body);
-            return handleResponse(response, method, path, body, null, typeReference, attempt);
+            return body != null ? Math.max(0, body.contentLength()) : 0;
         } catch (IOException e) {
-            throw new EmailVerifyException("Network error: " + e.getMessage(), "NETWORK_ERROR", 0);
+            return 0;
+        }
+    }
+
+    private static ApiError deadlineExceeded(String method, String path) {
+        return new ApiError("TIMEOUT", "Deadline exceeded for " + method + " " + path, 504);
+    }
+
+    private static ApiError networkError(String method, String path, Deadline deadline, IOException e) {
+        if (deadline != null && deadline.isExpired()) {
+            return deadlineExceeded(method, path);
         }
+        return new ApiError("NETWORK_ERROR", "Network error: " + e.getMessage(), 0);
     }
 
-    private Response executeRequest(String method, String path, Object body) throws IOException, EmailVerifyException {
+    /**
+     * Build the call for one attempt, or return null if the deadline has already passed.
+     */
+    private Call newCall(String method, String path, Object body, Deadline deadline, int attempt) throws IOException {
+        stats.recordRequest();
+        if (attempt > 1) {
+            stats.recordRetry();
+        } else if (retryBudget != null) {
+            retryBudget.deposit();
+        }
+
         String url = baseUrl + path;
 
         Request.Builder requestBuilder = new Request.Builder()
@@ -87,10 +208,12 @@ public class EmailVerifyClient implements AutoCloseable {
             .header("Content-Type", "application/json")
             .header("User-Agent", USER_AGENT);
 
+        if (body instanceof DeadlineAwareBody deadlineAware) {
+            body = deadlineAware.forRemaining(deadline != null ? deadline.remainingMillis() : Long.MAX_VALUE);
+        }
         RequestBody requestBody = null;
         if (body != null) {
-            String json = objectMapper.writeValueAsString(body);
-            requestBody = RequestBody.create(json, JSON);
+            requestBody = RequestBody.create(codec.encode(body), JSON);
         }
 
         switch (method.toUpperCase()) {
@@ -100,102 +223,135 @@ public class EmailVerifyClient implements AutoCloseable {
             default -> throw new IllegalArgumentException("Unsupported HTTP method: " + method);
         }
 
-        return httpClient.newCall(requestBuilder.build()).execute();
+        Call call = httpClient.newCall(requestBuilder.build());
+        if (deadline != null) {
+            long remaining = deadline.remaining().toNanos();
+            if (remaining <= 0) {
+                return null;
+            }
+            // Full nanosecond precision: a timeout rounded down to millis can fire just before
+            // the deadline and surface as a network error instead of a deadline timeout.
+            call.timeout().timeout(remaining, TimeUnit.NANOSECONDS);
+        }
+        return call;
     }
 
-    @SuppressWarnings("unchecked")
-    private <T> T handleResponse(Response response, String method, String path, Object body,
-                                  Class<T> responseClass, TypeReference<T> typeReference, int attempt)
-            throws EmailVerifyException, IOException {
-
+    private <T> Result<T, ApiError> handleResponse(Response response, byte[] responseBytes, String method, String path,
+                                                   Object body, Type responseType, Deadline deadline, int attempt) {
         int statusCode = response.code();
-        ResponseBody responseBody = response.body();
-        String responseString = responseBody != null ? responseBody.string() : "";
 
         if (statusCode == 204) {
-            return null;
+            return Result.ok(null);
         }
 
         if (statusCode >= 200 && statusCode < 300) {
-            if (responseString.isEmpty()) {
-                return null;
+            if (responseBytes.length == 0 || responseType == Void.class) {
+                return Result.ok(null);
             }
-            if (responseClass != null) {
-                return objectMapper.readValue(responseString, responseClass);
-            } else {
-                return objectMapper.readValue(responseString, typeReference);
+            try {
+                return Result.ok(codec.decode(responseBytes, responseType));
+            } catch (IOException e) {
+                return Result.err(networkError(method, path, deadline, e));
             }
         }
 
-        return handleErrorResponse(statusCode, responseString, response, method, path, body,
-                                   responseClass, typeReference, attempt);
+        return handleErrorResponse(statusCode, responseBytes, response, method, path, body,
+                                   responseType, deadline, attempt);
     }
 
-    private <T> T handleErrorResponse(int statusCode, String responseString, Response response,
-                                       String method, String path, Object body,
-                                       Class<T> responseClass, TypeReference<T> typeReference, int attempt)
-            throws EmailVerifyException {
-
-        String message;
-        String code;
+    private <T> Result<T, ApiError> handleErrorResponse(int statusCode, byte[] responseBytes, Response response,
+                                                        String method, String path, Object body,
+                                                        Type responseType, Deadline deadline, int attempt) {
+        String message = response.message();
+        String code = "UNKNOWN_ERROR";
         String details = null;
 
-        try {
-            Map<String, Object> errorResponse = objectMapper.readValue(responseString, new TypeReference<>() {});
-            @SuppressWarnings("unchecked")
-            Map<String, Object> error = (Map<String, Object>) errorResponse.get("error");
-            if (error != null) {
-                message = (String) error.getOrDefault("message", response.message());
-                code = (String) error.getOrDefault("code", "UNKNOWN_ERROR");
-                details = (String) error.get("details");
-            } else {
-                message = response.message();
-                code = "UNKNOWN_ERROR";
+        // Proxies answer 502/503 with empty or HTML bodies; only JSON goes to the codec.
+        if (mayBeJson(response, responseBytes)) {
+            try {
+                Map<String, Object> errorResponse = codec.decode(responseBytes, ERROR_BODY_TYPE);
+                @SuppressWarnings("unchecked")
+                Map<String, Object> error = (Map<String, Object>) errorResponse.get("error");
+                if (error != null) {
+                    message = (String) error.getOrDefault("message", response.message());
+                    code = (String) error.getOrDefault("code", "UNKNOWN_ERROR");
+                    details = (String) error.get("details");
+                }
+            } catch (Exception e) {
+                // Malformed despite the content type; keep the status line.
             }
-        } catch (Exception e) {
-            message = response.message();
-            code = "UNKNOWN_ERROR";
         }
 
         switch (statusCode) {
-            case 401 -> throw new AuthenticationException(message);
-            case 403 -> {
-                if ("INSUFFICIENT_CREDITS".equals(code)) {
-                    throw new InsufficientCreditsException(message);
-                }
-                throw new EmailVerifyException(message, code, 403);
-            }
-            case 404 -> throw new NotFoundException(message);
             case 429 -> {
-                String retryAfterHeader = response.header("Retry-After");
-                int retryAfter = retryAfterHeader != null ? Integer.parseInt(retryAfterHeader) : 0;
-                if (attempt < retries) {
-                    int waitTime = retryAfter > 0 ? retryAfter : (1 << attempt);
-                    sleep(waitTime * 1000L);
-                    if (responseClass != null) {
-                        return requestWithRetry(method, path, body, responseClass, attempt + 1);
-                    } else {
-                        return requestWithRetry(method, path, body, typeReference, attempt + 1);
-                    }
+                stats.recordRateLimited();
+                int retryAfter = parseRetryAfter(response.header("Retry-After"));
+                long waitMillis = (retryAfter > 0 ? retryAfter : (1L << attempt)) * 1000L;
+                if (canRetry(attempt, deadline, waitMillis)) {
+                    RateLimitWaitEvent wait = new RateLimitWaitEvent();
+                    wait.begin();
+                    sleep(waitMillis);
+                    wait.complete(path, attempt, retryAfter, waitMillis);
+                    return exchangeWithRetry(method, path, body, responseType, deadline, attempt + 1);
                 }
-                throw new RateLimitException(message, retryAfter);
+                return Result.err(new ApiError(code, message, statusCode, details, retryAfter));
             }
-            case 400 -> throw new ValidationException(message, details);
             case 500, 502, 503 -> {
-                if (attempt < retries) {
-                    sleep((1L << attempt) * 1000);
-                    if (responseClass != null) {
-                        return requestWithRetry(method, path, body, responseClass, attempt + 1);
-                    } else {
-                        return requestWithRetry(method, path, body, typeReference, attempt + 1);
-                    }
+                long waitMillis = (1L << attempt) * 1000;
+                if (canRetry(attempt, deadline, waitMillis)) {
+                    RetryBackoffEvent backoff = new RetryBackoffEvent();
+                    backoff.begin();
+                    sleep(waitMillis);
+                    backoff.complete(path, attempt, statusCode, waitMillis);
+                    return exchangeWithRetry(method, path, body, responseType, deadline, attempt + 1);
                 }
-                throw new EmailVerifyException(message, code, statusCode);
+                return Result.err(new ApiError(code, message, statusCode));
+            }
+            default -> {
+                return Result.err(new ApiError(code, message, statusCode, details, 0));
             }
-            default -> throw new EmailVerifyException(message, code, statusCode, details);
         }
     }
 
+    /**
+     * Whether an error body is worth decoding: non-empty, and JSON by its content type
+     * when it declares one.
+     */
+    private static boolean mayBeJson(Response response, byte[] responseBytes) {
+        if (responseBytes.length == 0) {
+            return false;
+        }
+        String header = response.header("Content-Type");
+        MediaType type = header != null ? MediaType.parse(header) : null;
+        return type == null || type.subtype().contains("json");
+    }
+
+    private static int parseRetryAfter(String header) {
+        if (header == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(header.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private boolean canRetry(int attempt, Deadline deadline, long waitMillis) {
+        if (attempt >= retries) {
+            return false;
+        }
+        // A retry that cannot even start before the deadline only burns budget.
+        if (deadline != null && deadline.remainingMillis() <= waitMillis) {
+            return false;
+        }
+        if (retryBudget != null && !retryBudget.tryWithdraw()) {
+            stats.recordRetryDenied();
+            return false;
+        }
+        return true;
+    }
+
     private void sleep(long millis) {
         try {
             Thread.sleep(millis);
@@ -215,14 +371,76 @@ public class EmailVerifyClient implements AutoCloseable {
      * Verify a single email address with options.
      */
     public VerifyResponse verify(String email, boolean smtpCheck, Integer timeout) throws EmailVerifyException {
+        return verify(email, smtpCheck, timeout, null);
+    }
+
+    /**
+     * Verify a single email address within a total time budget.
+     */
+    public VerifyResponse verify(String email, Duration budget) throws EmailVerifyException {
+        return verify(email, true, null, Deadline.after(budget));
+    }
+
+    /**
+     * Verify a single email address with options and a deadline covering every attempt
+     * and backoff. The remaining budget caps each attempt's HTTP call timeout and the
+     * server-side {@code timeout}, and retries that cannot start in time are skipped.
+     */
+    public VerifyResponse verify(String email, boolean smtpCheck, Integer timeout, Deadline deadline) throws EmailVerifyException {
+        Result<VerifyResponse, ApiError> result = tryVerify(email, smtpCheck, timeout, deadline);
+        if (result instanceof Result.Err<VerifyResponse, ApiError> err) {
+            throw err.error().toException(stacklessExceptions);
+        }
+        return ((Result.Ok<VerifyResponse, ApiError>) result).value();
+    }
+
+    /**
+     * Verify a single email address, returning API and network failures as an
+     * {@link ApiError} instead of throwing.
+     */
+    public Result<VerifyResponse, ApiError> tryVerify(String email) {
+        return tryVerify(email, true, null, null);
+    }
+
+    /**
+     * Verify a single email address with options, returning failures as an {@link ApiError}.
+     */
+    public Result<VerifyResponse, ApiError> tryVerify(String email, boolean smtpCheck, Integer timeout) {
+        return tryVerify(email, smtpCheck, timeout, null);
+    }
+
+    /**
+     * Verify a single email address with options and a deadline, returning failures as an
+     * {@link ApiError}. See {@link #verify(String, boolean, Integer, Deadline)}.
+     */
+    public Result<VerifyResponse, ApiError> tryVerify(String email, boolean smtpCheck, Integer timeout, Deadline deadline) {
+        Object body;
+        if (deadline == null) {
+            body = verifyPayload(email, smtpCheck, timeout);
+        } else {
+            body = (DeadlineAwareBody) remaining -> {
+                // Leave the server's answer some time to travel back before the deadline.
+                long serverBudget = Math.max(1, remaining - Math.min(250, remaining / 5));
+                long effective = timeout != null ? Math.min(timeout, serverBudget) : serverBudget;
+                return verifyPayload(email, smtpCheck, (int) Math.min(Integer.MAX_VALUE, effective));
+            };
+        }
+
+        Result<VerifyResponse, ApiError> result = exchange("POST", "/verify", body, VerifyResponse.class, deadline);
+        if (result instanceof Result.Ok<VerifyResponse, ApiError> ok && ok.value() != null) {
+            stats.recordCreditsUsed(ok.value().creditsUsed());
+        }
+        return result;
+    }
+
+    private static Map<String, Object> verifyPayload(String email, boolean smtpCheck, Integer timeout) {
         Map<String, Object> payload = new HashMap<>();
         payload.put("email", email);
         payload.put("smtp_check", smtpCheck);
         if (timeout != null) {
             payload.put("timeout", timeout);
         }
-
-        return request("POST", "/verify", payload, VerifyResponse.class);
+        return payload;
     }
 
     /**
@@ -247,7 +465,11 @@ public class EmailVerifyClient implements AutoCloseable {
             payload.put("webhook_url", webhookUrl);
         }
 
-        return request("POST", "/verify/bulk", payload, BulkJobResponse.class);
+        BulkJobResponse response = request("POST", "/verify/bulk", payload, BulkJobResponse.class);
+        if (response != null) {
+            stats.recordCreditsUsed(response.creditsUsed());
+        }
+        return response;
     }
 
     /**
@@ -268,14 +490,26 @@ public class EmailVerifyClient implements AutoCloseable {
      * Get the results of a completed bulk verification job with pagination.
      */
     public BulkResultsResponse getBulkJobResults(String jobId, int limit, int offset, String status) throws EmailVerifyException {
+        return request("GET", resultsPath(jobId, limit, offset, status), null, BulkResultsResponse.class);
+    }
+
+    /**
+     * Get a page of bulk results as an untyped map, exactly as the server sent it,
+     * including fields the typed {@link BulkResultItem} does not model.
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> getBulkJobResultsRaw(String jobId, int limit, int offset, String status) throws EmailVerifyException {
+        return request("GET", resultsPath(jobId, limit, offset, status), null, Map.class);
+    }
+
+    private static String resultsPath(String jobId, int limit, int offset, String status) {
         StringBuilder path = new StringBuilder("/verify/bulk/").append(jobId).append("/results?");
         path.append("limit=").append(limit);
         path.append("&offset=").append(offset);
         if (status != null && !status.isEmpty()) {
             path.append("&status=").append(status);
         }
-
-        return request("GET", path.toString(), null, BulkResultsResponse.class);
+        return path.toString();
     }
 
     /**
@@ -292,14 +526,20 @@ public class EmailVerifyClient implements AutoCloseable {
         long startTime = System.currentTimeMillis();
         long maxWaitMillis = maxWait.toMillis();
 
+        int cycle = 0;
         while (System.currentTimeMillis() - startTime < maxWaitMillis) {
-            BulkJobResponse status = getBulkJobStatus(jobId);
-
-            if ("completed".equals(status.status()) || "failed".equals(status.status())) {
-                return status;
+            BulkPollEvent poll = BulkPollEvent.start();
+            BulkJobResponse status = null;
+            cycle++;
+            try {
+                status = getBulkJobStatus(jobId);
+                if ("completed".equals(status.status()) || "failed".equals(status.status())) {
+                    return status;
+                }
+                sleep(pollInterval.toMillis());
+            } finally {
+                poll.end(jobId, status, cycle);
             }
-
-            sleep(pollInterval.toMillis());
         }
 
         throw new TimeoutException("Bulk job " + jobId + " did not complete within " + maxWait.toSeconds() + " seconds");
@@ -309,7 +549,11 @@ public class EmailVerifyClient implements AutoCloseable {
      * Get current credit balance.
      */
     public CreditsResponse getCredits() throws EmailVerifyException {
-        return request("GET", "/credits", null, CreditsResponse.class);
+        CreditsResponse response = request("GET", "/credits", null, CreditsResponse.class);
+        if (response != null) {
+            stats.recordCreditsAvailable(response.available());
+        }
+        return response;
     }
 
     /**
@@ -330,7 +574,7 @@ public class EmailVerifyClient implements AutoCloseable {
      * List all webhooks.
      */
     public List<Webhook> listWebhooks() throws EmailVerifyException {
-        return request("GET", "/webhooks", null, new TypeReference<>() {});
+        return request("GET", "/webhooks", null, WEBHOOK_LIST_TYPE);
     }
 
     /**
@@ -344,6 +588,14 @@ public class EmailVerifyClient implements AutoCloseable {
      * Verify a webhook signature.
      */
     public static boolean verifyWebhookSignature(String payload, String signature, String secret) {
+        WebhookSignatureEvent event = new WebhookSignatureEvent();
+        event.begin();
+        boolean valid = checkWebhookSignature(payload, signature, secret);
+        event.complete(valid, payload.getBytes(StandardCharsets.UTF_8).length);
+        return valid;
+    }
+
+    private static boolean checkWebhookSignature(String payload, String signature, String secret) {
         try {
             Mac mac = Mac.getInstance("HmacSHA256");
             SecretKeySpec secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
@@ -367,10 +619,49 @@ public class EmailVerifyClient implements AutoCloseable {
         return hex.toString();
     }
 
+    /**
+     * Request, retry and credit counters for this client.
+     */
+    public ClientStats stats() {
+        return stats;
+    }
+
+    /**
+     * A view of this client whose requests are scheduled in the {@code priority} lane.
+     * Views share the transport, scheduler, retry budget and stats of this client; closing
+     * a view does nothing.
+     */
+    public EmailVerifyClient withPriority(Priority priority) {
+        if (priority == null) {
+            throw new IllegalArgumentException("Priority is required");
+        }
+        return priority == this.priority ? this : new EmailVerifyClient(this, priority);
+    }
+
+    /**
+     * The lane this client's requests are scheduled in.
+     */
+    public Priority priority() {
+        return priority;
+    }
+
+    /**
+     * Queue depth, in-flight count and wait times for one lane of this client's scheduler.
+     */
+    public LaneStats laneStats(Priority priority) {
+        return scheduler.stats(priority);
+    }
+
+    /**
+     * Release the connection pool and dispatcher. Clients obtained from an
+     * {@link EmailVerifyClientPool} share its transport, which is left open.
+     */
     @Override
     public void close() {
-        httpClient.dispatcher().executorService().shutdown();
-        httpClient.connectionPool().evictAll();
+        if (ownsTransport) {
+            httpClient.dispatcher().executorService().shutdown();
+            httpClient.connectionPool().evictAll();
+        }
     }
 
     public static class Builder {
@@ -378,6 +669,14 @@ public class EmailVerifyClient implements AutoCloseable {
         private String baseUrl;
         private Duration timeout;
         private int retries;
+        private double requestsPerSecond;
+        private double retryBudgetRatio = -1;
+        private int maxConcurrentRequests;
+        private int reservedHighPriority;
+        private final int[] laneWeights = {4, 2, 1};
+        private boolean stacklessExceptions;
+        private OkHttpClient httpClient;
+        private JsonCodec codec;
 
         private Builder(String apiKey) {
             if (apiKey == null || apiKey.isEmpty()) {
@@ -401,7 +700,92 @@ public class EmailVerifyClient implements AutoCloseable {
             return this;
         }
 
+        /**
+         * Cap on HTTP attempts per second for this client. Disabled by default.
+         */
+        public Builder requestsPerSecond(double requestsPerSecond) {
+            this.requestsPerSecond = requestsPerSecond;
+            return this;
+        }
+
+        /**
+         * Cap on requests in flight at once across all priority lanes. Unlimited by default.
+         */
+        public Builder maxConcurrentRequests(int maxConcurrentRequests) {
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            return this;
+        }
+
+        /**
+         * Number of concurrent slots only {@link Priority#HIGH} requests may use.
+         * Requires {@link #maxConcurrentRequests(int)}.
+         */
+        public Builder reservedHighPriority(int slots) {
+            this.reservedHighPriority = slots;
+            return this;
+        }
+
+        /**
+         * Relative share of slots and rate-limit tokens for {@code priority} when lanes
+         * compete (defaults: HIGH 4, NORMAL 2, LOW 1).
+         */
+        public Builder laneWeight(Priority priority, int weight) {
+            if (weight < 1 || weight > 1024) {
+                throw new IllegalArgumentException("Lane weight must be between 1 and 1024");
+            }
+            this.laneWeights[priority.ordinal()] = weight;
+            return this;
+        }
+
+        /**
+         * Allow at most {@code ratio} retries per request on average, beyond a small
+         * burst allowance. Disabled by default.
+         */
+        public Builder retryBudget(double ratio) {
+            if (ratio < 0) {
+                throw new IllegalArgumentException("Retry budget ratio must not be negative");
+            }
+            this.retryBudgetRatio = ratio;
+            return this;
+        }
+
+        /**
+         * Throw exceptions without a captured stack trace. Creating them is much cheaper,
+         * which matters when many calls fail routinely; the trade-off is less useful logs.
+         * Off by default.
+         */
+        public Builder stacklessExceptions(boolean stacklessExceptions) {
+            this.stacklessExceptions = stacklessExceptions;
+            return this;
+        }
+
+        /**
+         * JSON codec for request and response bodies. Defaults to {@link StreamingJsonCodec}.
+         */
+        public Builder codec(JsonCodec codec) {
+            this.codec = codec;
+            return this;
+        }
+
+        Builder transport(OkHttpClient httpClient) {
+            this.httpClient = httpClient;
+            return this;
+        }
+
+        /**
+         * Whether a timeout or codec was set, both of which a client pool owns.
+         */
+        boolean setsTransportOptions() {
+            return timeout != null || codec != null;
+        }
+
         public EmailVerifyClient build() {
+            if (reservedHighPriority < 0) {
+                throw new IllegalArgumentException("reservedHighPriority must not be negative");
+            }
+            if (reservedHighPriority > 0 && reservedHighPriority >= maxConcurrentRequests) {
+                throw new IllegalArgumentException("reservedHighPriority must be less than maxConcurrentRequests");
+            }
             return new EmailVerifyClient(this);
         }
     }
@@ -0,0 +1,205 @@
+package com.emailverify.sdk;
+
+import com.emailverify.sdk.codec.JsonCodec;
+import com.emailverify.sdk.codec.StreamingJsonCodec;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Hands out one {@link EmailVerifyClient} per API key while sharing a single HTTP
+ * transport, connection pool and JSON codec across all of them. Each tenant client
+ * keeps its own rate limit, retry budget and {@link ClientStats}; limits default to the
+ * pool settings and can be overridden per key with {@link #client(String, Consumer)}.
+ *
+ * <pre>{@code
+ * try (var pool = EmailVerifyClientPool.builder().requestsPerSecond(20).build()) {
+ *     VerifyResponse r = pool.client(tenant.apiKey()).verify(email);
+ *     ClientStats stats = pool.stats(tenant.apiKey());
+ * }
+ * }</pre>
+ */
+public final class EmailVerifyClientPool implements AutoCloseable {
+    private final OkHttpClient httpClient;
+    private final JsonCodec codec;
+    private final String baseUrl;
+    private final int retries;
+    private final double requestsPerSecond;
+    private final double retryBudgetRatio;
+    private final Map<String, EmailVerifyClient> clients = new ConcurrentHashMap<>();
+
+    private EmailVerifyClientPool(Builder builder) {
+        this.baseUrl = builder.baseUrl;
+        this.retries = builder.retries;
+        this.requestsPerSecond = builder.requestsPerSecond;
+        this.retryBudgetRatio = builder.retryBudgetRatio;
+        this.httpClient = EmailVerifyClient.newHttpClient(builder.timeout).newBuilder()
+            .connectionPool(new ConnectionPool(builder.maxIdleConnections, 5, TimeUnit.MINUTES))
+            .build();
+        this.codec = builder.codec != null ? builder.codec : new StreamingJsonCodec();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Client for {@code apiKey}, created on first use with the pool defaults.
+     */
+    public EmailVerifyClient client(String apiKey) {
+        return client(apiKey, builder -> {});
+    }
+
+    /**
+     * Client for {@code apiKey}, created on first use with the pool defaults and then
+     * {@code overrides}, e.g. {@code b -> b.requestsPerSecond(50).retryBudget(0.2)}. The
+     * overrides only apply when the client is created. The transport, timeout and codec
+     * belong to the pool, so overrides that set {@code timeout} or {@code codec} are
+     * rejected with an {@link IllegalArgumentException}.
+     */
+    public EmailVerifyClient client(String apiKey, Consumer<EmailVerifyClient.Builder> overrides) {
+        if (apiKey == null || apiKey.isEmpty()) {
+            throw new IllegalArgumentException("API key is required");
+        }
+        EmailVerifyClient existing = clients.get(apiKey);
+        if (existing != null) {
+            return existing;
+        }
+
+        // Built outside the map so slow or re-entrant overrides don't hold a map bin.
+        EmailVerifyClient.Builder builder = EmailVerifyClient.builder(apiKey)
+            .baseUrl(baseUrl)
+            .retries(retries)
+            .requestsPerSecond(requestsPerSecond);
+        if (retryBudgetRatio >= 0) {
+            builder.retryBudget(retryBudgetRatio);
+        }
+        overrides.accept(builder);
+        if (builder.setsTransportOptions()) {
+            throw new IllegalArgumentException("timeout and codec are set on the pool, not per tenant");
+        }
+        EmailVerifyClient created = builder.codec(codec).transport(httpClient).build();
+
+        existing = clients.putIfAbsent(apiKey, created);
+        if (existing != null) {
+            // Lost a race with another caller for the same key.
+            created.close();
+            return existing;
+        }
+        return created;
+    }
+
+    /**
+     * Stats for {@code apiKey}, or {@code null} if no client was created for it.
+     */
+    public ClientStats stats(String apiKey) {
+        EmailVerifyClient client = clients.get(apiKey);
+        return client != null ? client.stats() : null;
+    }
+
+    /**
+     * Stats of every tenant, keyed by API key.
+     */
+    public Map<String, ClientStats> allStats() {
+        Map<String, ClientStats> stats = new HashMap<>();
+        clients.forEach((key, client) -> stats.put(key, client.stats()));
+        return Collections.unmodifiableMap(stats);
+    }
+
+    /**
+     * Forget the client for {@code apiKey}, e.g. after a tenant is offboarded.
+     */
+    public void remove(String apiKey) {
+        clients.remove(apiKey);
+    }
+
+    /**
+     * Number of tenants with a client.
+     */
+    public int size() {
+        return clients.size();
+    }
+
+    @Override
+    public void close() {
+        clients.clear();
+        httpClient.dispatcher().executorService().shutdown();
+        httpClient.connectionPool().evictAll();
+    }
+
+    public static class Builder {
+        private String baseUrl;
+        private Duration timeout = Duration.ofSeconds(30);
+        private int retries;
+        private double requestsPerSecond;
+        private double retryBudgetRatio = -1;
+        private int maxIdleConnections = 5;
+        private JsonCodec codec;
+
+        private Builder() {}
+
+        public Builder baseUrl(String baseUrl) {
+            this.baseUrl = baseUrl;
+            return this;
+        }
+
+        public Builder timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        public Builder retries(int retries) {
+            this.retries = retries;
+            return this;
+        }
+
+        /**
+         * Per-tenant cap on HTTP attempts per second. Disabled by default.
+         */
+        public Builder requestsPerSecond(double requestsPerSecond) {
+            this.requestsPerSecond = requestsPerSecond;
+            return this;
+        }
+
+        /**
+         * Per-tenant retry budget, see {@link EmailVerifyClient.Builder#retryBudget(double)}.
+         */
+        public Builder retryBudget(double ratio) {
+            if (ratio < 0) {
+                throw new IllegalArgumentException("Retry budget ratio must not be negative");
+            }
+            this.retryBudgetRatio = ratio;
+            return this;
+        }
+
+        /**
+         * Idle connections kept in the shared pool (default: 5).
+         */
+        public Builder maxIdleConnections(int maxIdleConnections) {
+            this.maxIdleConnections = maxIdleConnections;
+            return this;
+        }
+
+        /**
+         * JSON codec shared by every tenant. Defaults to {@link StreamingJsonCodec}.
+         */
+        public Builder codec(JsonCodec codec) {
+            this.codec = codec;
+            return this;
+        }
+
+        public EmailVerifyClientPool build() {
+            if (timeout == null) {
+                throw new IllegalArgumentException("Timeout is required");
+            }
+            return new EmailVerifyClientPool(this);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.emailverify.sdk;
+
+import java.time.Duration;
+
+/**
+ * Point-in-time view of one priority lane of a client's request scheduler.
+ *
+ * @param queueDepth requests currently waiting for a slot
+ * @param inFlight   requests currently holding a slot
+ * @param granted    slots handed out since the client was built
+ * @param totalWait  time spent waiting, summed over all granted requests
+ * @param maxWait    longest single wait
+ */
+public record LaneStats(
+    Priority priority,
+    int queueDepth,
+    int inFlight,
+    long granted,
+    Duration totalWait,
+    Duration maxWait
+) {
+    /**
+     * Mean wait per granted request.
+     */
+    public Duration averageWait() {
+        return granted == 0 ? Duration.ZERO : totalWait.dividedBy(granted);
+    }
+}
@@ -0,0 +1,13 @@
+package com.emailverify.sdk;
+
+/**
+ * Scheduling lane for a client's requests. See {@link EmailVerifyClient#withPriority(Priority)}.
+ */
+public enum Priority {
+    /** Interactive traffic; may use capacity reserved for it. */
+    HIGH,
+    /** Default lane. */
+    NORMAL,
+    /** Background and batch traffic. */
+    LOW
+}
@@ -0,0 +1,79 @@
+package com.emailverify.sdk;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token-bucket rate limiter. Permits are handed out at a fixed rate with up to
+ * {@code burst} permits available immediately after an idle period.
+ */
+public final class RateLimiter {
+    private final long intervalNanos;
+    private final long burstNanos;
+    private long nextFreeNanos;
+
+    public RateLimiter(double permitsPerSecond) {
+        this(permitsPerSecond, 1);
+    }
+
+    public RateLimiter(double permitsPerSecond, int burst) {
+        if (!(permitsPerSecond > 0)) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive");
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("burst must be at least 1");
+        }
+        this.intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.burstNanos = intervalNanos * (burst - 1);
+        this.nextFreeNanos = System.nanoTime() - burstNanos;
+    }
+
+    /**
+     * Block until a permit is available.
+     */
+    public void acquire() throws InterruptedException {
+        long wait = reserve();
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    /**
+     * Take a permit if one is available right now.
+     */
+    public synchronized boolean tryAcquire() {
+        long now = System.nanoTime();
+        refill(now);
+        if (nextFreeNanos - now > 0) {
+            return false;
+        }
+        nextFreeNanos += intervalNanos;
+        return true;
+    }
+
+    /**
+     * Reserve the next permit and return how long the caller must wait for it, in nanoseconds.
+     */
+    synchronized long reserve() {
+        long now = System.nanoTime();
+        refill(now);
+        long wait = nextFreeNanos - now;
+        nextFreeNanos += intervalNanos;
+        return Math.max(0, wait);
+    }
+
+    /**
+     * Nanoseconds until the next permit is available, without taking it.
+     */
+    synchronized long waitNanos() {
+        long now = System.nanoTime();
+        refill(now);
+        return Math.max(0, nextFreeNanos - now);
+    }
+
+    private void refill(long now) {
+        long earliest = now - burstNanos;
+        if (nextFreeNanos - earliest < 0) {
+            nextFreeNanos = earliest;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.emailverify.sdk;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out request slots across {@link Priority} lanes. A slot combines a concurrency
+ * permit with a rate-limit token, so both are shared in the same order: lanes with
+ * waiting requests are served by stride scheduling in proportion to their weights, and
+ * {@code reservedHigh} slots can only be taken by {@link Priority#HIGH}.
+ */
+final class RequestScheduler {
+    private static final long STRIDE_SCALE = 1L << 20;
+
+    private final int maxConcurrent;
+    private final int reservedHigh;
+    private final RateLimiter rateLimiter;
+    private final Lane[] lanes;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Guarded by lock.
+    private int inFlight;
+    private long virtualTime;
+
+    RequestScheduler(int maxConcurrent, int reservedHigh, RateLimiter rateLimiter, int[] weights) {
+        this.maxConcurrent = maxConcurrent;
+        this.reservedHigh = reservedHigh;
+        this.rateLimiter = rateLimiter;
+        Priority[] priorities = Priority.values();
+        this.lanes = new Lane[priorities.length];
+        for (int i = 0; i < priorities.length; i++) {
+            lanes[i] = new Lane(priorities[i], STRIDE_SCALE / weights[i]);
+        }
+    }
+
+    /**
+     * Block until {@code priority} is granted a slot. Returns false if {@code timeoutNanos}
+     * (when non-negative) passes first.
+     */
+    boolean acquire(Priority priority, long timeoutNanos) throws InterruptedException {
+        Lane lane = lanes[priority.ordinal()];
+        Waiter waiter = new Waiter(lock.newCondition());
+        long start = System.nanoTime();
+        lock.lock();
+        try {
+            if (lane.waiters.isEmpty()) {
+                // An idle lane rejoins at the current virtual time instead of cashing in
+                // the turns it skipped while it had nothing to send.
+                lane.pass = Math.max(lane.pass, virtualTime);
+            }
+            lane.waiters.addLast(waiter);
+            try {
+                while (true) {
+                    long tokenWait = dispatch();
+                    if (waiter.granted) {
+                        break;
+                    }
+                    long wait = tokenWait > 0 ? tokenWait : Long.MAX_VALUE;
+                    if (timeoutNanos >= 0) {
+                        long remaining = timeoutNanos - (System.nanoTime() - start);
+                        if (remaining <= 0) {
+                            lane.waiters.remove(waiter);
+                            dispatch();
+                            return false;
+                        }
+                        wait = Math.min(wait, remaining);
+                    }
+                    if (wait == Long.MAX_VALUE) {
+                        waiter.condition.await();
+                    } else {
+                        waiter.condition.awaitNanos(wait);
+                    }
+                }
+            } catch (InterruptedException e) {
+                if (waiter.granted) {
+                    releaseLocked(lane);
+                } else {
+                    lane.waiters.remove(waiter);
+                }
+                dispatch();
+                throw e;
+            }
+            long waited = System.nanoTime() - start;
+            lane.totalWaitNanos += waited;
+            lane.maxWaitNanos = Math.max(lane.maxWaitNanos, waited);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Return the slot taken by a successful {@link #acquire}.
+     */
+    void release(Priority priority) {
+        lock.lock();
+        try {
+            releaseLocked(lanes[priority.ordinal()]);
+            dispatch();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    LaneStats stats(Priority priority) {
+        Lane lane = lanes[priority.ordinal()];
+        lock.lock();
+        try {
+            return new LaneStats(priority, lane.waiters.size(), lane.inFlight, lane.granted,
+                Duration.ofNanos(lane.totalWaitNanos), Duration.ofNanos(lane.maxWaitNanos));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void releaseLocked(Lane lane) {
+        lane.inFlight--;
+        inFlight--;
+    }
+
+    /**
+     * Grant slots while capacity allows. Returns how long until the next rate-limit token
+     * if that is what is holding back a waiter, else zero. In that case the next waiter in
+     * line is woken so it can re-dispatch with a timed wait once the token is due.
+     */
+    private long dispatch() {
+        while (true) {
+            Lane next = null;
+            for (Lane lane : lanes) {
+                if (lane.waiters.isEmpty() || !hasCapacity(lane.priority)) {
+                    continue;
+                }
+                if (next == null || lane.pass < next.pass) {
+                    next = lane;
+                }
+            }
+            if (next == null) {
+                return 0;
+            }
+            if (rateLimiter != null && !rateLimiter.tryAcquire()) {
+                next.waiters.peekFirst().condition.signal();
+                return Math.max(1, rateLimiter.waitNanos());
+            }
+            Waiter waiter = next.waiters.removeFirst();
+            waiter.granted = true;
+            waiter.condition.signal();
+            virtualTime = next.pass;
+            next.pass += next.stride;
+            next.inFlight++;
+            next.granted++;
+            inFlight++;
+        }
+    }
+
+    private boolean hasCapacity(Priority priority) {
+        int limit = priority == Priority.HIGH ? maxConcurrent : maxConcurrent - reservedHigh;
+        return inFlight < limit;
+    }
+
+    private static final class Lane {
+        final Priority priority;
+        final long stride;
+        final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+        long pass;
+        int inFlight;
+        long granted;
+        long totalWaitNanos;
+        long maxWaitNanos;
+
+        Lane(Priority priority, long stride) {
+            this.priority = priority;
+            this.stride = stride;
+        }
+    }
+
+    private static final class Waiter {
+        final Condition condition;
+        boolean granted;
+
+        Waiter(Condition condition) {
+            this.condition = condition;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.emailverify.sdk;
+
+import java.util.function.Function;
+
+/**
+ * Outcome of an operation that either produced a value or failed with an error, without
+ * throwing. Inspect with {@code instanceof Result.Ok} / {@code Result.Err} or the helpers.
+ */
+public sealed interface Result<T, E> permits Result.Ok, Result.Err {
+    record Ok<T, E>(T value) implements Result<T, E> {}
+
+    record Err<T, E>(E error) implements Result<T, E> {}
+
+    static <T, E> Result<T, E> ok(T value) {
+        return new Ok<>(value);
+    }
+
+    static <T, E> Result<T, E> err(E error) {
+        return new Err<>(error);
+    }
+
+    default boolean isOk() {
+        return this instanceof Ok;
+    }
+
+    /**
+     * The value if this is {@link Ok}, else {@code other}.
+     */
+    default T orElse(T other) {
+        return this instanceof Ok<T, E> ok ? ok.value() : other;
+    }
+
+    /**
+     * The error if this is {@link Err}, else null.
+     */
+    default E errorOrNull() {
+        return this instanceof Err<T, E> err ? err.error() : null;
+    }
+
+    default <U> Result<U, E> map(Function<? super T, ? extends U> mapper) {
+        if (this instanceof Ok<T, E> ok) {
+            return new Ok<>(mapper.apply(ok.value()));
+        }
+        @SuppressWarnings("unchecked")
+        Result<U, E> err = (Result<U, E>) this;
+        return err;
+    }
+}
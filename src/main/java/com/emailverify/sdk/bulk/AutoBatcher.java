@@ -0,0 +1,484 @@
+package com.emailverify.sdk.bulk;
+
+import com.emailverify.sdk.EmailVerifyClient;
+import com.emailverify.sdk.exception.EmailVerifyException;
+import com.emailverify.sdk.exception.TimeoutException;
+import com.emailverify.sdk.jfr.BulkPollEvent;
+import com.emailverify.sdk.model.BulkJobResponse;
+import com.emailverify.sdk.model.BulkResultItem;
+import com.emailverify.sdk.model.BulkResultsResponse;
+import com.emailverify.sdk.model.VerifyResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces individual verification requests into bulk jobs. Requests are buffered and
+ * flushed into {@code verifyBulk} when the buffer reaches {@code maxBatchSize} or the
+ * oldest request has waited {@code linger}. Each job is watched with
+ * {@code getBulkJobStatus} (or completed early via {@link #onJobCompleted(String)} from
+ * a webhook handler) and every caller's future is completed from its results.
+ *
+ * <p>Results from bulk jobs carry no {@code reason} and report zero
+ * {@code creditsUsed}; credits are charged on the job as a whole. Duplicate addresses
+ * within one batch are submitted once.
+ */
+public final class AutoBatcher implements AutoCloseable {
+    /**
+     * How an individual request is sent.
+     */
+    public enum Mode {
+        /** Call {@code /verify} right away. */
+        IMMEDIATE,
+        /** Buffer into the next bulk job. */
+        BATCHED
+    }
+
+    private final EmailVerifyClient client;
+    private final int maxBatchSize;
+    private final Duration linger;
+    private final Duration pollInterval;
+    private final Duration maxWait;
+    private final boolean smtpCheck;
+    private final String webhookUrl;
+    private final int pageSize;
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService scheduler;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    // Guarded by this.
+    private Map<String, List<CompletableFuture<VerifyResponse>>> buffer = new LinkedHashMap<>();
+    private ScheduledFuture<?> lingerTask;
+    private int activeBatches;
+    private boolean closed;
+
+    private AutoBatcher(Builder builder) {
+        this.client = builder.client;
+        this.maxBatchSize = builder.maxBatchSize;
+        this.linger = builder.linger;
+        this.pollInterval = builder.pollInterval;
+        this.maxWait = builder.maxWait;
+        this.smtpCheck = builder.smtpCheck;
+        this.webhookUrl = builder.webhookUrl;
+        this.pageSize = builder.pageSize;
+        this.executor = new ThreadPoolExecutor(builder.threads, builder.threads, 30, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), daemon("emailverify-batcher"));
+        this.executor.allowCoreThreadTimeOut(true);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(daemon("emailverify-batcher-timer"));
+    }
+
+    public static Builder builder(EmailVerifyClient client) {
+        return new Builder(client);
+    }
+
+    /**
+     * Verify {@code email} in the next bulk job.
+     */
+    public CompletableFuture<VerifyResponse> verify(String email) {
+        return verify(email, Mode.BATCHED);
+    }
+
+    /**
+     * Verify {@code email} either right away or in the next bulk job.
+     */
+    public CompletableFuture<VerifyResponse> verify(String email, Mode mode) {
+        String canonical = EmailNormalizer.normalize(email);
+        if (canonical == null) {
+            return CompletableFuture.failedFuture(
+                new EmailVerifyException("Email is required", "INVALID_REQUEST", 400));
+        }
+        if (mode == Mode.IMMEDIATE) {
+            CompletableFuture<VerifyResponse> future = new CompletableFuture<>();
+            synchronized (this) {
+                if (closed) {
+                    return CompletableFuture.failedFuture(closedException());
+                }
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        future.complete(client.verify(email, smtpCheck, null));
+                    } catch (EmailVerifyException | RuntimeException e) {
+                        future.completeExceptionally(e);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // close() raced the check above.
+                return CompletableFuture.failedFuture(closedException());
+            }
+            return future;
+        }
+
+        CompletableFuture<VerifyResponse> future = new CompletableFuture<>();
+        Map<String, List<CompletableFuture<VerifyResponse>>> full = null;
+        synchronized (this) {
+            if (closed) {
+                return CompletableFuture.failedFuture(closedException());
+            }
+            buffer.computeIfAbsent(canonical, key -> new ArrayList<>(1)).add(future);
+            if (buffer.size() >= maxBatchSize) {
+                full = takeBuffer();
+            } else if (lingerTask == null) {
+                lingerTask = scheduler.schedule(this::flush, linger.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+        if (full != null) {
+            submit(full);
+        }
+        return future;
+    }
+
+    /**
+     * Submit whatever is buffered now, without waiting for the linger time.
+     */
+    public void flush() {
+        Map<String, List<CompletableFuture<VerifyResponse>>> batch;
+        synchronized (this) {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            batch = takeBuffer();
+        }
+        submit(batch);
+    }
+
+    /**
+     * Signal that {@code jobId} finished, e.g. from a {@code bulk.completed} webhook,
+     * so its results are fetched without waiting for the next poll. Ignored for jobs
+     * this batcher is not waiting on.
+     */
+    public void onJobCompleted(String jobId) {
+        Job job = jobs.get(jobId);
+        if (job != null) {
+            job.signal();
+        }
+    }
+
+    /**
+     * Number of requests waiting for the next flush.
+     */
+    public synchronized int buffered() {
+        int count = 0;
+        for (List<CompletableFuture<VerifyResponse>> futures : buffer.values()) {
+            count += futures.size();
+        }
+        return count;
+    }
+
+    /**
+     * Flush pending requests and stop accepting new ones. In-flight jobs keep running
+     * until their futures complete; the worker threads stop once the last one finishes.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        flush();
+        shutdownIfIdle();
+    }
+
+    /**
+     * Takes the buffer as a batch and counts it as active until {@link #batchDone()}.
+     */
+    private Map<String, List<CompletableFuture<VerifyResponse>>> takeBuffer() {
+        Map<String, List<CompletableFuture<VerifyResponse>>> batch = buffer;
+        buffer = new LinkedHashMap<>();
+        activeBatches++;
+        if (lingerTask != null) {
+            lingerTask.cancel(false);
+            lingerTask = null;
+        }
+        return batch;
+    }
+
+    private void batchDone() {
+        synchronized (this) {
+            activeBatches--;
+        }
+        shutdownIfIdle();
+    }
+
+    private void shutdownIfIdle() {
+        synchronized (this) {
+            if (!closed || activeBatches > 0) {
+                return;
+            }
+        }
+        scheduler.shutdownNow();
+        executor.shutdown();
+    }
+
+    private void submit(Map<String, List<CompletableFuture<VerifyResponse>>> batch) {
+        try {
+            executor.execute(() -> {
+                try {
+                    start(batch);
+                } catch (EmailVerifyException | RuntimeException e) {
+                    fail(batch, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            fail(batch, closedException());
+        }
+    }
+
+    private void fail(Map<String, List<CompletableFuture<VerifyResponse>>> batch, Exception e) {
+        batch.values().forEach(futures -> futures.forEach(f -> f.completeExceptionally(e)));
+        batchDone();
+    }
+
+    private void start(Map<String, List<CompletableFuture<VerifyResponse>>> batch) throws EmailVerifyException {
+        BulkJobResponse response = client.verifyBulk(new ArrayList<>(batch.keySet()), smtpCheck, webhookUrl);
+        Job job = new Job(response.jobId(), batch, System.nanoTime() + maxWait.toNanos());
+        jobs.put(job.jobId, job);
+        poll(job);
+    }
+
+    /**
+     * One status check on a worker thread. The wait until the next check is a timer on the
+     * scheduler, so no thread is parked while a job is processing.
+     */
+    private void poll(Job job) {
+        BulkPollEvent event = BulkPollEvent.start();
+        BulkJobResponse status = null;
+        try {
+            status = client.getBulkJobStatus(job.jobId);
+            if ("completed".equals(status.status())) {
+                event.end(job.jobId, status, ++job.cycle);
+                event = null;
+                fetchResults(job);
+                finish(job, null);
+                return;
+            }
+            if ("failed".equals(status.status())) {
+                throw new EmailVerifyException("Bulk job " + job.jobId + " failed", "BULK_JOB_FAILED", 0);
+            }
+            long remaining = job.deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new TimeoutException("Bulk job " + job.jobId + " did not complete within "
+                    + maxWait.toSeconds() + " seconds");
+            }
+            job.scheduleNext(Math.min(pollInterval.toNanos(), remaining));
+        } catch (EmailVerifyException | RuntimeException e) {
+            finish(job, e);
+        } finally {
+            if (event != null) {
+                event.end(job.jobId, status, ++job.cycle);
+            }
+        }
+    }
+
+    private void fetchResults(Job job) throws EmailVerifyException {
+        Map<String, List<CompletableFuture<VerifyResponse>>> batch = job.batch;
+        int offset = 0;
+        while (true) {
+            BulkResultsResponse page = client.getBulkJobResults(job.jobId, pageSize, offset, null);
+            List<BulkResultItem> results = page.results() != null ? page.results() : List.of();
+            for (BulkResultItem item : results) {
+                List<CompletableFuture<VerifyResponse>> futures = batch.remove(EmailNormalizer.normalize(item.email()));
+                if (futures != null) {
+                    VerifyResponse response = new VerifyResponse(item.email(), item.status(), item.result(),
+                        item.score(), null, 0);
+                    futures.forEach(f -> f.complete(response));
+                }
+            }
+            offset += results.size();
+            if (results.isEmpty() || offset >= page.total() || batch.isEmpty()) {
+                break;
+            }
+        }
+
+        batch.forEach((email, futures) -> {
+            EmailVerifyException missing = new EmailVerifyException(
+                "Bulk job " + job.jobId + " returned no result for " + email, "RESULT_MISSING", 0);
+            futures.forEach(f -> f.completeExceptionally(missing));
+        });
+    }
+
+    private void finish(Job job, Exception error) {
+        jobs.remove(job.jobId);
+        if (error != null) {
+            fail(job.batch, error);
+        } else {
+            batchDone();
+        }
+    }
+
+    private static IllegalStateException closedException() {
+        return new IllegalStateException("AutoBatcher is closed");
+    }
+
+    /**
+     * A submitted bulk job and the callers waiting on it.
+     */
+    private final class Job {
+        final String jobId;
+        final Map<String, List<CompletableFuture<VerifyResponse>>> batch;
+        final long deadline;
+        // Only touched by the one poll running at a time.
+        int cycle;
+
+        // Guarded by this.
+        private ScheduledFuture<?> nextPoll;
+        private boolean signalled;
+        private boolean wakeNow;
+
+        Job(String jobId, Map<String, List<CompletableFuture<VerifyResponse>>> batch, long deadline) {
+            this.jobId = jobId;
+            this.batch = batch;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Poll early on the first completion signal. Later signals are ignored, so a status
+         * that lags the webhook falls back to the regular poll interval.
+         */
+        synchronized void signal() {
+            if (signalled) {
+                return;
+            }
+            signalled = true;
+            if (nextPoll != null && nextPoll.cancel(false)) {
+                nextPoll = null;
+                dispatch();
+            } else {
+                // A poll is running; make its follow-up immediate.
+                wakeNow = true;
+            }
+        }
+
+        synchronized void scheduleNext(long delayNanos) {
+            if (wakeNow) {
+                wakeNow = false;
+                dispatch();
+                return;
+            }
+            try {
+                nextPoll = scheduler.schedule(() -> {
+                    synchronized (this) {
+                        nextPoll = null;
+                    }
+                    dispatch();
+                }, delayNanos, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                finish(this, closedException());
+            }
+        }
+
+        private void dispatch() {
+            try {
+                executor.execute(() -> poll(this));
+            } catch (RejectedExecutionException e) {
+                finish(this, closedException());
+            }
+        }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return r -> {
+            Thread t = new Thread(r, name);
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    public static class Builder {
+        private final EmailVerifyClient client;
+        private int maxBatchSize = 1000;
+        private Duration linger = Duration.ofSeconds(2);
+        private Duration pollInterval = Duration.ofSeconds(5);
+        private Duration maxWait = Duration.ofMinutes(10);
+        private boolean smtpCheck = true;
+        private String webhookUrl;
+        private int pageSize = 100;
+        private int threads = 4;
+
+        private Builder(EmailVerifyClient client) {
+            if (client == null) {
+                throw new IllegalArgumentException("Client is required");
+            }
+            this.client = client;
+        }
+
+        /**
+         * Flush once this many distinct addresses are buffered (default: 1000, max 10,000).
+         */
+        public Builder maxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Flush once the oldest buffered request has waited this long (default: 2s).
+         */
+        public Builder linger(Duration linger) {
+            this.linger = linger;
+            return this;
+        }
+
+        public Builder pollInterval(Duration pollInterval) {
+            this.pollInterval = pollInterval;
+            return this;
+        }
+
+        public Builder maxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+            return this;
+        }
+
+        public Builder smtpCheck(boolean smtpCheck) {
+            this.smtpCheck = smtpCheck;
+            return this;
+        }
+
+        /**
+         * Webhook URL passed to each bulk job; pair with {@link AutoBatcher#onJobCompleted(String)}.
+         */
+        public Builder webhookUrl(String webhookUrl) {
+            this.webhookUrl = webhookUrl;
+            return this;
+        }
+
+        public Builder pageSize(int pageSize) {
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * Worker threads for HTTP calls (default: 4). Jobs waiting between status polls do
+         * not hold a thread, so this bounds concurrent calls rather than concurrent jobs.
+         */
+        public Builder threads(int threads) {
+            this.threads = threads;
+            return this;
+        }
+
+        public AutoBatcher build() {
+            if (maxBatchSize < 1 || maxBatchSize > 10000) {
+                throw new IllegalArgumentException("maxBatchSize must be between 1 and 10,000");
+            }
+            if (pageSize < 1 || threads < 1) {
+                throw new IllegalArgumentException("pageSize and threads must be at least 1");
+            }
+            return new AutoBatcher(this);
+        }
+    }
+}
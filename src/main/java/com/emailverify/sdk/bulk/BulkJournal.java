@@ -0,0 +1,310 @@
+package com.emailverify.sdk.bulk;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only checkpoint journal for long-running bulk pipelines. Records which chunks
+ * were submitted under which job ID, the last polled job status and how far result
+ * paging got, so a restarted run can pick up exactly where the previous one stopped.
+ *
+ * <p>Each record is framed as {@code [int length][byte type][payload][int crc32c]}. On
+ * open, the file is replayed and any torn or corrupt tail left by a crash is truncated.
+ * Submissions and completions are forced to disk immediately, since losing them costs
+ * credits; poll and offset records are batched and forced every {@code syncEvery}
+ * records or {@code syncInterval}, whichever comes first. Records of an unknown type,
+ * e.g. written by a newer version, are skipped on replay.
+ */
+public final class BulkJournal implements AutoCloseable {
+    private static final byte CHUNK_SUBMITTED = 1;
+    private static final byte JOB_POLLED = 2;
+    private static final byte RESULTS_FETCHED = 3;
+    private static final byte CHUNK_COMPLETED = 4;
+    private static final byte CHUNK_FAILED = 5;
+
+    private static final int HEADER_BYTES = 5;
+    private static final int TRAILER_BYTES = 4;
+    private static final int MAX_RECORD_BYTES = 1 << 16;
+
+    private final FileChannel channel;
+    private final int syncEvery;
+    private final long syncIntervalNanos;
+    private final Map<Integer, ChunkState> chunks = new TreeMap<>();
+    private final ByteBuffer buffer = ByteBuffer.allocate(MAX_RECORD_BYTES);
+
+    private int unsynced;
+    private long lastSync = System.nanoTime();
+
+    /**
+     * State of one chunk as reconstructed from the journal. {@code jobId} is null after the
+     * chunk's job failed, until it is resubmitted.
+     */
+    public record ChunkState(
+        int chunk,
+        String jobId,
+        String status,
+        int processed,
+        int resultsOffset,
+        boolean completed
+    ) {}
+
+    private BulkJournal(FileChannel channel, int syncEvery, Duration syncInterval) {
+        this.channel = channel;
+        this.syncEvery = syncEvery;
+        this.syncIntervalNanos = syncInterval.toNanos();
+    }
+
+    /**
+     * Open or create a journal, syncing batched records every 64 writes or 1 second.
+     */
+    public static BulkJournal open(Path path) throws IOException {
+        return open(path, 64, Duration.ofSeconds(1));
+    }
+
+    /**
+     * Open or create a journal with custom sync batching.
+     */
+    public static BulkJournal open(Path path, int syncEvery, Duration syncInterval) throws IOException {
+        if (syncEvery < 1) {
+            throw new IllegalArgumentException("syncEvery must be at least 1");
+        }
+        FileChannel channel = FileChannel.open(path,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        BulkJournal journal = new BulkJournal(channel, syncEvery, syncInterval);
+        try {
+            journal.replay();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return journal;
+    }
+
+    /**
+     * Record that {@code chunk} was submitted as {@code jobId}. Forced to disk.
+     */
+    public synchronized void chunkSubmitted(int chunk, String jobId) throws IOException {
+        byte[] id = jobId.getBytes(StandardCharsets.UTF_8);
+        buffer.clear();
+        buffer.putInt(chunk).putShort((short) id.length).put(id);
+        append(CHUNK_SUBMITTED, true);
+    }
+
+    /**
+     * Record the latest polled status of the job for {@code chunk}; a null status is
+     * recorded as {@code "unknown"}.
+     */
+    public synchronized void jobPolled(int chunk, String status, int processed) throws IOException {
+        byte[] s = (status != null ? status : "unknown").getBytes(StandardCharsets.UTF_8);
+        buffer.clear();
+        buffer.putInt(chunk).putInt(processed).putShort((short) s.length).put(s);
+        append(JOB_POLLED, false);
+    }
+
+    /**
+     * Record that results for {@code chunk} have been consumed up to {@code offset}.
+     */
+    public synchronized void resultsFetched(int chunk, int offset) throws IOException {
+        buffer.clear();
+        buffer.putInt(chunk).putInt(offset);
+        append(RESULTS_FETCHED, false);
+    }
+
+    /**
+     * Record that every result of {@code chunk} has been consumed. Forced to disk.
+     */
+    public synchronized void chunkCompleted(int chunk) throws IOException {
+        buffer.clear();
+        buffer.putInt(chunk);
+        append(CHUNK_COMPLETED, true);
+    }
+
+    /**
+     * Record that the job for {@code chunk} failed, clearing its job ID so the chunk is
+     * submitted again on resume. Forced to disk.
+     */
+    public synchronized void chunkFailed(int chunk) throws IOException {
+        buffer.clear();
+        buffer.putInt(chunk);
+        append(CHUNK_FAILED, true);
+    }
+
+    /**
+     * State of {@code chunk}, or {@code null} if it was never submitted.
+     */
+    public synchronized ChunkState chunk(int chunk) {
+        return chunks.get(chunk);
+    }
+
+    /**
+     * Snapshot of all known chunks, ordered by chunk index.
+     */
+    public synchronized Map<Integer, ChunkState> chunks() {
+        return Collections.unmodifiableMap(new TreeMap<>(chunks));
+    }
+
+    /**
+     * Force any batched records to disk.
+     */
+    public synchronized void sync() throws IOException {
+        if (unsynced > 0) {
+            channel.force(false);
+            unsynced = 0;
+        }
+        lastSync = System.nanoTime();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel.isOpen()) {
+            sync();
+            channel.close();
+        }
+    }
+
+    private void append(byte type, boolean force) throws IOException {
+        buffer.flip();
+        ByteBuffer payload = buffer.slice();
+
+        ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + payload.remaining() + TRAILER_BYTES);
+        record.putInt(payload.remaining()).put(type).put(payload.duplicate());
+        CRC32C crc = new CRC32C();
+        crc.update(record.array(), 0, record.position());
+        record.putInt((int) crc.getValue());
+        record.flip();
+        long start = channel.position();
+        try {
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+            unsynced++;
+            if (force) {
+                sync();
+            }
+        } catch (IOException e) {
+            // Drop whatever part of the record made it out so the file stays aligned and
+            // in-memory state never runs ahead of it.
+            try {
+                channel.truncate(start);
+                channel.position(start);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+
+        apply(type, payload);
+        if (!force && (unsynced >= syncEvery || System.nanoTime() - lastSync >= syncIntervalNanos)) {
+            sync();
+        }
+    }
+
+    private void replay() throws IOException {
+        long size = channel.size();
+        long position = 0;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        while (position + HEADER_BYTES + TRAILER_BYTES <= size) {
+            header.clear();
+            readFully(header, position);
+            header.flip();
+            int length = header.getInt();
+            byte type = header.get();
+            if (length < 0 || length > MAX_RECORD_BYTES || position + HEADER_BYTES + length + TRAILER_BYTES > size) {
+                break;
+            }
+
+            ByteBuffer body = ByteBuffer.allocate(length + TRAILER_BYTES);
+            readFully(body, position + HEADER_BYTES);
+            body.flip();
+
+            CRC32C crc = new CRC32C();
+            crc.update(header.array(), 0, HEADER_BYTES);
+            crc.update(body.array(), 0, length);
+            if ((int) crc.getValue() != body.getInt(length)) {
+                break;
+            }
+
+            body.limit(length);
+            if (type >= CHUNK_SUBMITTED && type <= CHUNK_FAILED) {
+                try {
+                    apply(type, body);
+                } catch (BufferUnderflowException e) {
+                    throw new IOException("Malformed journal record of type " + type + " at offset " + position, e);
+                }
+            }
+            position += HEADER_BYTES + length + TRAILER_BYTES;
+        }
+
+        if (position < size) {
+            // Torn write from a crash: drop the partial record so appends stay aligned.
+            channel.truncate(position);
+            channel.force(false);
+        }
+        channel.position(position);
+    }
+
+    private void readFully(ByteBuffer target, long position) throws IOException {
+        while (target.hasRemaining()) {
+            int n = channel.read(target, position);
+            if (n < 0) {
+                throw new IOException("Unexpected end of journal");
+            }
+            position += n;
+        }
+    }
+
+    private void apply(byte type, ByteBuffer payload) {
+        int chunk = payload.getInt();
+        ChunkState state = chunks.get(chunk);
+        switch (type) {
+            case CHUNK_SUBMITTED -> {
+                String jobId = readString(payload);
+                chunks.put(chunk, new ChunkState(chunk, jobId, null, 0, 0, false));
+            }
+            case JOB_POLLED -> {
+                int processed = payload.getInt();
+                String status = readString(payload);
+                if (state != null) {
+                    chunks.put(chunk, new ChunkState(chunk, state.jobId(), status, processed,
+                        state.resultsOffset(), state.completed()));
+                }
+            }
+            case RESULTS_FETCHED -> {
+                int offset = payload.getInt();
+                if (state != null) {
+                    chunks.put(chunk, new ChunkState(chunk, state.jobId(), state.status(), state.processed(),
+                        offset, state.completed()));
+                }
+            }
+            case CHUNK_COMPLETED -> {
+                if (state != null) {
+                    chunks.put(chunk, new ChunkState(chunk, state.jobId(), state.status(), state.processed(),
+                        state.resultsOffset(), true));
+                }
+            }
+            case CHUNK_FAILED -> {
+                if (state != null) {
+                    chunks.put(chunk, new ChunkState(chunk, null, "failed", 0, 0, false));
+                }
+            }
+            default -> throw new IllegalStateException("Unknown journal record type: " + type);
+        }
+    }
+
+    private static String readString(ByteBuffer payload) {
+        int length = Short.toUnsignedInt(payload.getShort());
+        byte[] bytes = new byte[length];
+        payload.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,322 @@
+package com.emailverify.sdk.bulk;
+
+import com.emailverify.sdk.EmailVerifyClient;
+import com.emailverify.sdk.exception.EmailVerifyException;
+import com.emailverify.sdk.model.VerifyResponse;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+/**
+ * Runs single verifications for a list while spreading load across recipient domains.
+ * Addresses are bucketed by domain and dispatched round-robin between buckets, with at
+ * most {@code maxInFlight} calls overall and {@code maxPerDomain} per domain, so a list
+ * dominated by one provider does not pile every call onto the same mail servers.
+ *
+ * <p>Latency is tracked per domain as an exponentially weighted moving average. A
+ * domain slower than the average across all domains has its cap reduced in proportion
+ * (never below one), freeing slots for the rest of the list. Latency history is kept
+ * across {@link #verifyAll} calls.
+ *
+ * <p>For bulk submission, {@link #interleave(List, int, int)} applies the same
+ * bucketing to build chunks.
+ */
+public final class DomainScheduler {
+    private static final double ALPHA = 0.2;
+    private static final int MIN_SAMPLES = 3;
+
+    /**
+     * Latency and cap for one domain.
+     *
+     * @param completed      calls finished for this domain
+     * @param averageLatency moving average of call latency
+     * @param cap            current in-flight limit after latency adjustment
+     */
+    public record DomainStats(String domain, long completed, Duration averageLatency, int cap) {}
+
+    private final EmailVerifyClient client;
+    private final boolean smtpCheck;
+    private final int maxInFlight;
+    private final int maxPerDomain;
+    private final BiConsumer<String, EmailVerifyException> itemErrorHandler;
+
+    private final Map<String, Latency> latencies = new ConcurrentHashMap<>();
+    private final Latency overall = new Latency();
+
+    private DomainScheduler(Builder builder) {
+        this.client = builder.client;
+        this.smtpCheck = builder.smtpCheck;
+        this.maxInFlight = builder.maxInFlight;
+        this.maxPerDomain = builder.maxPerDomain;
+        this.itemErrorHandler = builder.itemErrorHandler;
+    }
+
+    public static Builder builder(EmailVerifyClient client) {
+        return new Builder(client);
+    }
+
+    /**
+     * Domain part of {@code email}, lowercased and punycoded, or an empty string if there
+     * is none.
+     */
+    public static String domainOf(String email) {
+        String canonical = EmailNormalizer.normalize(email);
+        if (canonical == null) {
+            return "";
+        }
+        int at = canonical.lastIndexOf('@');
+        return at < 0 ? "" : canonical.substring(at + 1);
+    }
+
+    /**
+     * Split {@code emails} into chunks of at most {@code chunkSize}, taking addresses from
+     * each domain in turn and at most {@code maxPerDomainPerChunk} from any one domain per
+     * chunk. Chunks may be smaller than {@code chunkSize} when only a few large domains
+     * remain.
+     */
+    public static List<List<String>> interleave(List<String> emails, int chunkSize, int maxPerDomainPerChunk) {
+        if (chunkSize < 1 || maxPerDomainPerChunk < 1) {
+            throw new IllegalArgumentException("chunkSize and maxPerDomainPerChunk must be at least 1");
+        }
+        ArrayDeque<ArrayDeque<String>> ring = new ArrayDeque<>(bucket(emails).values());
+        List<List<String>> chunks = new ArrayList<>();
+        while (!ring.isEmpty()) {
+            List<String> chunk = new ArrayList<>(Math.min(chunkSize, emails.size()));
+            Map<ArrayDeque<String>, Integer> taken = new HashMap<>();
+            int skipped = 0;
+            while (chunk.size() < chunkSize && !ring.isEmpty() && skipped < ring.size()) {
+                ArrayDeque<String> bucket = ring.pollFirst();
+                int count = taken.getOrDefault(bucket, 0);
+                if (count >= maxPerDomainPerChunk) {
+                    ring.addLast(bucket);
+                    skipped++;
+                    continue;
+                }
+                skipped = 0;
+                chunk.add(bucket.pollFirst());
+                taken.put(bucket, count + 1);
+                if (!bucket.isEmpty()) {
+                    ring.addLast(bucket);
+                }
+            }
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    /**
+     * Verify every address, returning responses in input order. Failed items are passed
+     * to the item error handler and left null in the result.
+     */
+    public List<VerifyResponse> verifyAll(List<String> emails) throws EmailVerifyException {
+        VerifyResponse[] results = new VerifyResponse[emails.size()];
+        if (emails.isEmpty()) {
+            return Arrays.asList(results);
+        }
+
+        Map<String, Bucket> buckets = new LinkedHashMap<>();
+        for (int i = 0; i < emails.size(); i++) {
+            String domain = domainOf(emails.get(i));
+            buckets.computeIfAbsent(domain, d -> new Bucket(latencies.computeIfAbsent(d, k -> new Latency())))
+                .pending.add(i);
+        }
+        ArrayDeque<Bucket> ring = new ArrayDeque<>(buckets.values());
+
+        ReentrantLock lock = new ReentrantLock();
+        Condition changed = lock.newCondition();
+        int[] state = {0, 0}; // in flight, completed
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(maxInFlight, emails.size()), r -> {
+            Thread t = new Thread(r, "emailverify-domain");
+            t.setDaemon(true);
+            return t;
+        });
+        lock.lock();
+        try {
+            while (state[1] < emails.size()) {
+                Bucket next = state[0] < maxInFlight ? nextEligible(ring) : null;
+                if (next == null) {
+                    changed.await();
+                    continue;
+                }
+                int index = next.pending.pollFirst();
+                if (!next.pending.isEmpty()) {
+                    ring.addLast(next);
+                }
+                next.inFlight++;
+                state[0]++;
+                executor.execute(() -> {
+                    String email = emails.get(index);
+                    long start = System.nanoTime();
+                    try {
+                        results[index] = client.verify(email, smtpCheck, null);
+                    } catch (EmailVerifyException e) {
+                        if (itemErrorHandler != null) {
+                            itemErrorHandler.accept(email, e);
+                        }
+                    } catch (RuntimeException e) {
+                        if (itemErrorHandler != null) {
+                            itemErrorHandler.accept(email,
+                                new EmailVerifyException(String.valueOf(e.getMessage()), "CLIENT_ERROR", 0));
+                        }
+                    } finally {
+                        long elapsed = System.nanoTime() - start;
+                        next.latency.record(elapsed);
+                        overall.record(elapsed);
+                        lock.lock();
+                        try {
+                            next.inFlight--;
+                            state[0]--;
+                            state[1]++;
+                            changed.signalAll();
+                        } finally {
+                            lock.unlock();
+                        }
+                    }
+                });
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+            throw new EmailVerifyException("Interrupted while verifying addresses", "INTERRUPTED", 0);
+        } finally {
+            lock.unlock();
+            executor.shutdown();
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Latency and current cap for {@code domain}, or null if no call has been made to it.
+     */
+    public DomainStats domainStats(String domain) {
+        Latency latency = latencies.get(domain);
+        if (latency == null) {
+            return null;
+        }
+        return new DomainStats(domain, latency.count(), Duration.ofNanos((long) latency.average()), capFor(latency));
+    }
+
+    /**
+     * The next bucket in round-robin order that is below its cap, removed from the ring.
+     */
+    private Bucket nextEligible(ArrayDeque<Bucket> ring) {
+        for (int i = 0, n = ring.size(); i < n; i++) {
+            Bucket bucket = ring.pollFirst();
+            if (bucket.inFlight < capFor(bucket.latency)) {
+                return bucket;
+            }
+            ring.addLast(bucket);
+        }
+        return null;
+    }
+
+    private int capFor(Latency latency) {
+        if (latency.count() < MIN_SAMPLES || overall.count() < MIN_SAMPLES) {
+            return maxPerDomain;
+        }
+        double ratio = overall.average() / latency.average();
+        if (ratio >= 1) {
+            return maxPerDomain;
+        }
+        return Math.max(1, (int) (maxPerDomain * ratio));
+    }
+
+    private static Map<String, ArrayDeque<String>> bucket(List<String> emails) {
+        Map<String, ArrayDeque<String>> buckets = new LinkedHashMap<>();
+        for (String email : emails) {
+            buckets.computeIfAbsent(domainOf(email), d -> new ArrayDeque<>()).add(email);
+        }
+        return buckets;
+    }
+
+    private static final class Bucket {
+        final Latency latency;
+        final ArrayDeque<Integer> pending = new ArrayDeque<>();
+        int inFlight;
+
+        Bucket(Latency latency) {
+            this.latency = latency;
+        }
+    }
+
+    private static final class Latency {
+        private long count;
+        private double average;
+
+        synchronized void record(long nanos) {
+            average = count == 0 ? nanos : average + ALPHA * (nanos - average);
+            count++;
+        }
+
+        synchronized long count() {
+            return count;
+        }
+
+        synchronized double average() {
+            return average;
+        }
+    }
+
+    public static class Builder {
+        private final EmailVerifyClient client;
+        private boolean smtpCheck = true;
+        private int maxInFlight = 16;
+        private int maxPerDomain = 4;
+        private BiConsumer<String, EmailVerifyException> itemErrorHandler;
+
+        private Builder(EmailVerifyClient client) {
+            if (client == null) {
+                throw new IllegalArgumentException("Client is required");
+            }
+            this.client = client;
+        }
+
+        public Builder smtpCheck(boolean smtpCheck) {
+            this.smtpCheck = smtpCheck;
+            return this;
+        }
+
+        /**
+         * Maximum calls in flight across all domains (default: 16).
+         */
+        public Builder maxInFlight(int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        /**
+         * Maximum calls in flight for any one domain before latency adjustment (default: 4).
+         */
+        public Builder maxPerDomain(int maxPerDomain) {
+            this.maxPerDomain = maxPerDomain;
+            return this;
+        }
+
+        /**
+         * Called for each address whose verification failed.
+         */
+        public Builder onItemError(BiConsumer<String, EmailVerifyException> itemErrorHandler) {
+            this.itemErrorHandler = itemErrorHandler;
+            return this;
+        }
+
+        public DomainScheduler build() {
+            if (maxInFlight < 1 || maxPerDomain < 1) {
+                throw new IllegalArgumentException("maxInFlight and maxPerDomain must be at least 1");
+            }
+            return new DomainScheduler(this);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.emailverify.sdk.bulk;
+
+import com.emailverify.sdk.model.BulkResultItem;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Pre-submission stage that normalizes input rows and drops duplicates before they are
+ * sent to {@code verifyBulk}, while remembering which input row maps to which canonical
+ * address so results can be fanned back out to every row.
+ *
+ * <p>Only fingerprints and row mappings are retained: roughly 4 bytes per input row plus
+ * about 18 bytes per distinct address, so tens of millions of rows fit in a modest heap.
+ * The caller is responsible for holding or streaming the canonical addresses returned by
+ * {@link #offer(String)}.
+ *
+ * <pre>{@code
+ * var dedup = new EmailDeduplicator();
+ * List<String> unique = new ArrayList<>();
+ * for (String row : rows) {
+ *     String canonical = dedup.offer(row);
+ *     if (canonical != null) unique.add(canonical);
+ * }
+ * // submit `unique` in chunks, then for every results page:
+ * dedup.fanOut(page.results(), (item, row) -> output[row] = item);
+ * }</pre>
+ *
+ * <p>Not thread-safe.
+ */
+public final class EmailDeduplicator {
+    private final FingerprintIndex index;
+    private int[] rowToUnique;
+    private int rowCount;
+    private int uniqueCount;
+
+    // Reverse mapping (unique -> rows) in CSR form, built lazily on first fan-out.
+    private int[] rowOffsets;
+    private int[] rowsByUnique;
+
+    public EmailDeduplicator() {
+        this(1 << 16);
+    }
+
+    public EmailDeduplicator(int expectedRows) {
+        if (expectedRows < 0 || expectedRows > FingerprintIndex.MAX_SIZE) {
+            throw new IllegalArgumentException("expectedRows must be between 0 and " + FingerprintIndex.MAX_SIZE);
+        }
+        this.index = new FingerprintIndex(expectedRows);
+        this.rowToUnique = new int[Math.max(16, expectedRows)];
+    }
+
+    /**
+     * Record the next input row. Returns its canonical address if this is the first time
+     * it has been seen, or {@code null} if it is a duplicate or blank.
+     */
+    public String offer(String email) {
+        String canonical = EmailNormalizer.normalize(email);
+        int row = rowCount;
+        if (row == rowToUnique.length) {
+            if (row == Integer.MAX_VALUE - 8) {
+                throw new IllegalStateException("Too many rows");
+            }
+            rowToUnique = Arrays.copyOf(rowToUnique, (int) Math.min(Integer.MAX_VALUE - 8, row * 2L));
+        }
+        rowCount++;
+        rowOffsets = null;
+
+        if (canonical == null) {
+            rowToUnique[row] = -1;
+            return null;
+        }
+
+        int existing = index.putIfAbsent(EmailNormalizer.fingerprint(canonical), uniqueCount);
+        if (existing >= 0) {
+            rowToUnique[row] = existing;
+            return null;
+        }
+        rowToUnique[row] = uniqueCount++;
+        return canonical;
+    }
+
+    /**
+     * Record every address in {@code emails} and return the distinct canonical ones in
+     * first-seen order.
+     */
+    public List<String> offerAll(Iterable<String> emails) {
+        List<String> unique = new ArrayList<>();
+        for (String email : emails) {
+            String canonical = offer(email);
+            if (canonical != null) {
+                unique.add(canonical);
+            }
+        }
+        return unique;
+    }
+
+    /**
+     * Number of input rows seen, including duplicates and blanks.
+     */
+    public int rowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Number of distinct canonical addresses.
+     */
+    public int uniqueCount() {
+        return uniqueCount;
+    }
+
+    /**
+     * Number of rows dropped as duplicates or blanks.
+     */
+    public int duplicateCount() {
+        return rowCount - uniqueCount;
+    }
+
+    /**
+     * Index of the canonical address for input {@code row} (in first-seen order), or
+     * {@code -1} if the row was blank.
+     */
+    public int uniqueIndexOf(int row) {
+        if (row < 0 || row >= rowCount) {
+            throw new IndexOutOfBoundsException("row " + row + " out of range [0, " + rowCount + ")");
+        }
+        return rowToUnique[row];
+    }
+
+    /**
+     * Index of the canonical address for {@code email}, or {@code -1} if never offered.
+     */
+    public int uniqueIndexOf(String email) {
+        String canonical = EmailNormalizer.normalize(email);
+        return canonical == null ? -1 : index.get(EmailNormalizer.fingerprint(canonical));
+    }
+
+    /**
+     * Input rows that normalized to the same address as {@code email}, in input order.
+     */
+    public int[] rowsOf(String email) {
+        int unique = uniqueIndexOf(email);
+        if (unique < 0) {
+            return new int[0];
+        }
+        buildReverseIndex();
+        return Arrays.copyOfRange(rowsByUnique, rowOffsets[unique], rowOffsets[unique + 1]);
+    }
+
+    /**
+     * Deliver each result to every input row that collapsed onto its address. Results for
+     * addresses that were never offered are ignored.
+     */
+    public void fanOut(List<BulkResultItem> results, ObjIntConsumer<BulkResultItem> sink) {
+        buildReverseIndex();
+        for (BulkResultItem item : results) {
+            int unique = uniqueIndexOf(item.email());
+            if (unique < 0) {
+                continue;
+            }
+            for (int i = rowOffsets[unique], end = rowOffsets[unique + 1]; i < end; i++) {
+                sink.accept(item, rowsByUnique[i]);
+            }
+        }
+    }
+
+    private void buildReverseIndex() {
+        if (rowOffsets != null) {
+            return;
+        }
+        int[] offsets = new int[uniqueCount + 1];
+        for (int row = 0; row < rowCount; row++) {
+            int unique = rowToUnique[row];
+            if (unique >= 0) {
+                offsets[unique + 1]++;
+            }
+        }
+        for (int i = 0; i < uniqueCount; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+        int[] cursor = Arrays.copyOf(offsets, uniqueCount);
+        int[] rows = new int[offsets[uniqueCount]];
+        for (int row = 0; row < rowCount; row++) {
+            int unique = rowToUnique[row];
+            if (unique >= 0) {
+                rows[cursor[unique]++] = row;
+            }
+        }
+        rowsByUnique = rows;
+        rowOffsets = offsets;
+    }
+}
@@ -0,0 +1,113 @@
+package com.emailverify.sdk.bulk;
+
+/**
+ * Open-addressing map from 64-bit fingerprints to int slots. Uses two flat primitive
+ * arrays with linear probing, so each entry costs 12 bytes at full load instead of the
+ * ~100 bytes of a boxed {@code HashMap<String, Integer>} entry.
+ */
+final class FingerprintIndex {
+    private static final long EMPTY = 0L;
+    private static final float LOAD_FACTOR = 0.7f;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * Most entries the index can hold.
+     */
+    static final int MAX_SIZE = (int) (MAX_CAPACITY * LOAD_FACTOR);
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    FingerprintIndex(int expectedSize) {
+        if (expectedSize < 0 || expectedSize > MAX_SIZE) {
+            throw new IllegalArgumentException("expectedSize must be between 0 and " + MAX_SIZE);
+        }
+        long wanted = Math.max(16, (long) Math.ceil(expectedSize / (double) LOAD_FACTOR));
+        allocate((int) Math.min(MAX_CAPACITY, Long.highestOneBit(wanted - 1) << 1));
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Return the value mapped to {@code fingerprint}, or {@code -1} if absent.
+     */
+    int get(long fingerprint) {
+        long key = remap(fingerprint);
+        int i = slot(key);
+        while (true) {
+            long k = keys[i];
+            if (k == key) {
+                return values[i];
+            }
+            if (k == EMPTY) {
+                return -1;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    /**
+     * Map {@code fingerprint} to {@code value} unless already present. Returns the
+     * existing value, or {@code -1} if the value was inserted.
+     */
+    int putIfAbsent(long fingerprint, int value) {
+        long key = remap(fingerprint);
+        int i = slot(key);
+        while (true) {
+            long k = keys[i];
+            if (k == key) {
+                return values[i];
+            }
+            if (k == EMPTY) {
+                keys[i] = key;
+                values[i] = value;
+                if (++size >= resizeAt) {
+                    rehash(keys.length << 1);
+                }
+                return -1;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void rehash(int capacity) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalStateException("Fingerprint index is full");
+        }
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int j = 0; j < oldKeys.length; j++) {
+            long key = oldKeys[j];
+            if (key != EMPTY) {
+                int i = slot(key);
+                while (keys[i] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = key;
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    private int slot(long key) {
+        return (int) (key ^ (key >>> 32)) & mask;
+    }
+
+    private static long remap(long fingerprint) {
+        // Zero marks an empty slot, so fold it onto another value.
+        return fingerprint == EMPTY ? 1L : fingerprint;
+    }
+}
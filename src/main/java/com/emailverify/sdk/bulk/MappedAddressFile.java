@@ -0,0 +1,493 @@
+package com.emailverify.sdk.bulk;
+
+import com.emailverify.sdk.EmailVerifyClient;
+import com.emailverify.sdk.exception.EmailVerifyException;
+import com.emailverify.sdk.model.BulkJobResponse;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Reads addresses from a large newline- or CSV-delimited file without loading it onto the
+ * heap. The file is split into line-aligned segments that are memory-mapped and parsed in
+ * parallel. Each thread copies its segment through a reusable 1 MiB heap window and hands
+ * out ASCII addresses as a {@link CharSequence} view over that window, so only addresses
+ * that are kept (e.g. for a bulk chunk) become Strings. The window is refilled as parsing
+ * moves on, so a view is only valid during the callback that receives it.
+ *
+ * <p>Lines are trimmed, a trailing {@code \r} is dropped and empty lines are skipped.
+ * With a delimiter configured, the given column is taken and a surrounding pair of
+ * double quotes is removed. Addresses are expected to be UTF-8; ASCII lines (the common
+ * case) are not decoded at all.
+ */
+public final class MappedAddressFile {
+    private static final int WINDOW = 1 << 20;
+    private static final int MAX_BULK_SIZE = 10000;
+
+    /**
+     * Receives chunks of addresses from {@link #forEachChunk(int, ChunkHandler)}.
+     */
+    @FunctionalInterface
+    public interface ChunkHandler {
+        void accept(List<String> chunk) throws EmailVerifyException;
+    }
+
+    private final Path path;
+    private final long segmentSize;
+    private final int parallelism;
+    private final byte delimiter;
+    private final int column;
+    private final boolean skipHeader;
+
+    private MappedAddressFile(Builder builder) {
+        this.path = builder.path;
+        this.segmentSize = builder.segmentSize;
+        this.parallelism = builder.parallelism;
+        this.delimiter = builder.delimiter;
+        this.column = builder.column;
+        this.skipHeader = builder.skipHeader;
+    }
+
+    public static Builder builder(Path path) {
+        return new Builder(path);
+    }
+
+    /**
+     * Call {@code action} for every address. Calls come from several threads at once and
+     * the {@link CharSequence} is only valid during the call; use {@code toString()} to
+     * keep it. Returns the number of addresses.
+     */
+    public long forEach(Consumer<? super CharSequence> action) throws IOException, EmailVerifyException {
+        return parse(sink -> sink.setAction(action));
+    }
+
+    /**
+     * Group addresses into chunks of up to {@code chunkSize} and hand each one to
+     * {@code handler}, from several threads at once. Chunks never span segments, so each
+     * segment's last chunk may be short. Returns the number of addresses.
+     */
+    public long forEachChunk(int chunkSize, ChunkHandler handler) throws IOException, EmailVerifyException {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be at least 1");
+        }
+        return parse(sink -> sink.setChunks(chunkSize, handler));
+    }
+
+    /**
+     * Submit the whole file as bulk jobs of up to {@code chunkSize} addresses (max 10,000),
+     * with up to {@code parallelism} submissions in flight. Jobs are returned in
+     * completion order.
+     */
+    public List<BulkJobResponse> submitBulk(EmailVerifyClient client, int chunkSize, boolean smtpCheck)
+            throws IOException, EmailVerifyException {
+        if (chunkSize > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("chunkSize must not exceed 10,000");
+        }
+        List<BulkJobResponse> jobs = Collections.synchronizedList(new ArrayList<>());
+        forEachChunk(chunkSize, chunk -> jobs.add(client.verifyBulk(chunk, smtpCheck, null)));
+        return jobs;
+    }
+
+    /**
+     * Byte ranges of the line-aligned segments the file is split into.
+     */
+    long[] segmentBounds() throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return segmentBounds(channel);
+        }
+    }
+
+    private long[] segmentBounds(FileChannel channel) throws IOException {
+        long size = channel.size();
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        ByteBuffer probe = ByteBuffer.allocate(64 * 1024);
+        long last = 0;
+        for (long nominal = segmentSize; nominal < size; nominal += segmentSize) {
+            if (nominal - 1 < last) {
+                // A long line already carried the previous segment past this boundary.
+                continue;
+            }
+            long boundary = nextLineStart(channel, nominal - 1, size, probe);
+            if (boundary >= size) {
+                break;
+            }
+            bounds.add(boundary);
+            last = boundary;
+        }
+        bounds.add(size);
+        return bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * Position just after the first newline at or after {@code from}, or {@code size}.
+     */
+    private static long nextLineStart(FileChannel channel, long from, long size, ByteBuffer probe) throws IOException {
+        long position = from;
+        while (position < size) {
+            probe.clear();
+            int read = channel.read(probe, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private interface SinkSetup {
+        void configure(Sink sink);
+    }
+
+    private long parse(SinkSetup setup) throws IOException, EmailVerifyException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long[] bounds = segmentBounds(channel);
+            int segments = bounds.length - 1;
+            AtomicInteger nextSegment = new AtomicInteger();
+            int threads = Math.max(1, Math.min(parallelism, segments));
+            ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+                Thread t = new Thread(r, "emailverify-ingest");
+                t.setDaemon(true);
+                return t;
+            });
+            try {
+                List<Future<Long>> futures = new ArrayList<>(threads);
+                for (int i = 0; i < threads; i++) {
+                    futures.add(executor.submit(() -> {
+                        Sink sink = new Sink();
+                        setup.configure(sink);
+                        long count = 0;
+                        int segment;
+                        while ((segment = nextSegment.getAndIncrement()) < segments) {
+                            long start = bounds[segment];
+                            long length = bounds[segment + 1] - start;
+                            if (length > 0) {
+                                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+                                count += parseSegment(mapped, segment == 0 && skipHeader, sink);
+                                sink.flush();
+                            }
+                        }
+                        return count;
+                    }));
+                }
+                long total = 0;
+                for (Future<Long> future : futures) {
+                    total += await(future);
+                }
+                return total;
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private static long await(Future<Long> future) throws IOException, EmailVerifyException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EmailVerifyException("Interrupted while reading addresses", "INTERRUPTED", 0);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            if (cause instanceof EmailVerifyException ev) {
+                throw ev;
+            }
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Scan one mapped segment through a reusable heap window; lines that straddle the end
+     * of the window are moved to its start before the next refill.
+     */
+    private long parseSegment(MappedByteBuffer mapped, boolean skipFirstLine, Sink sink) throws EmailVerifyException {
+        byte[] window = sink.window;
+        int limit = mapped.limit();
+        int mappedPos = 0;
+        int filled = 0;
+        long count = 0;
+        boolean skip = skipFirstLine;
+        int lineStart = 0;
+
+        while (true) {
+            int toRead = Math.min(window.length - filled, limit - mappedPos);
+            mapped.get(mappedPos, window, filled, toRead);
+            mappedPos += toRead;
+            filled += toRead;
+            boolean last = mappedPos == limit;
+
+            int i = lineStart;
+            while (true) {
+                int newline = indexOf(window, i, filled, (byte) '\n');
+                if (newline < 0) {
+                    break;
+                }
+                if (skip) {
+                    skip = false;
+                } else if (emitLine(window, lineStart, newline, sink)) {
+                    count++;
+                }
+                lineStart = newline + 1;
+                i = lineStart;
+            }
+
+            if (last) {
+                if (lineStart < filled && !skip && emitLine(window, lineStart, filled, sink)) {
+                    count++;
+                }
+                return count;
+            }
+            if (lineStart == 0 && filled == window.length) {
+                // A single line longer than the window is not an address; drop it up to
+                // its newline.
+                lineStart = filled;
+                skip = true;
+            }
+            int carry = filled - lineStart;
+            System.arraycopy(window, lineStart, window, 0, carry);
+            filled = carry;
+            lineStart = 0;
+        }
+    }
+
+    private static int indexOf(byte[] bytes, int from, int to, byte b) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == b) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean emitLine(byte[] bytes, int start, int end, Sink sink) throws EmailVerifyException {
+        if (delimiter != 0) {
+            int fieldStart = start;
+            int field = 0;
+            boolean quoted = false;
+            int i = start;
+            for (; i < end; i++) {
+                byte b = bytes[i];
+                if (b == '"') {
+                    quoted = !quoted;
+                } else if (b == delimiter && !quoted) {
+                    if (field == column) {
+                        break;
+                    }
+                    field++;
+                    fieldStart = i + 1;
+                }
+            }
+            if (field != column) {
+                return false;
+            }
+            start = fieldStart;
+            end = i;
+        }
+        while (start < end && isSpace(bytes[start])) {
+            start++;
+        }
+        while (end > start && isSpace(bytes[end - 1])) {
+            end--;
+        }
+        if (end - start >= 2 && bytes[start] == '"' && bytes[end - 1] == '"') {
+            start++;
+            end--;
+        }
+        if (start == end) {
+            return false;
+        }
+        sink.accept(bytes, start, end - start);
+        return true;
+    }
+
+    private static boolean isSpace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+
+    /**
+     * Per-thread parsing state: the heap window, the reusable view, and the current chunk.
+     */
+    private static final class Sink {
+        final byte[] window = new byte[WINDOW];
+        final AsciiView view = new AsciiView();
+        Consumer<? super CharSequence> action;
+        ChunkHandler chunkHandler;
+        int chunkSize;
+        List<String> chunk;
+
+        void setAction(Consumer<? super CharSequence> action) {
+            this.action = action;
+        }
+
+        void setChunks(int chunkSize, ChunkHandler handler) {
+            this.chunkSize = chunkSize;
+            this.chunkHandler = handler;
+            this.chunk = new ArrayList<>(chunkSize);
+        }
+
+        void accept(byte[] bytes, int offset, int length) throws EmailVerifyException {
+            CharSequence value = isAscii(bytes, offset, length)
+                ? view.reset(bytes, offset, length)
+                : new String(bytes, offset, length, StandardCharsets.UTF_8);
+            if (action != null) {
+                action.accept(value);
+                return;
+            }
+            chunk.add(value.toString());
+            if (chunk.size() == chunkSize) {
+                flush();
+            }
+        }
+
+        void flush() throws EmailVerifyException {
+            if (chunk != null && !chunk.isEmpty()) {
+                List<String> full = chunk;
+                chunk = new ArrayList<>(chunkSize);
+                chunkHandler.accept(full);
+            }
+        }
+
+        private static boolean isAscii(byte[] bytes, int offset, int length) {
+            for (int i = offset, end = offset + length; i < end; i++) {
+                if (bytes[i] < 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Reusable {@link CharSequence} over ASCII bytes.
+     */
+    static final class AsciiView implements CharSequence {
+        private byte[] bytes;
+        private int offset;
+        private int length;
+
+        AsciiView reset(byte[] bytes, int offset, int length) {
+            this.bytes = bytes;
+            this.offset = offset;
+            this.length = length;
+            return this;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return (char) bytes[offset + index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return toString().substring(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+        }
+    }
+
+    public static class Builder {
+        private final Path path;
+        private long segmentSize = 64L << 20;
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private byte delimiter;
+        private int column;
+        private boolean skipHeader;
+
+        private Builder(Path path) {
+            if (path == null) {
+                throw new IllegalArgumentException("Path is required");
+            }
+            this.path = path;
+        }
+
+        /**
+         * Target segment size in bytes; segments are extended to the next line end
+         * (default: 64 MiB, max 1 GiB).
+         */
+        public Builder segmentSize(long segmentSize) {
+            this.segmentSize = segmentSize;
+            return this;
+        }
+
+        /**
+         * Segments parsed at once (default: available processors).
+         */
+        public Builder parallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Read delimited lines and take {@code column} (0-based), e.g. {@code csv(',', 2)}.
+         */
+        public Builder csv(char delimiter, int column) {
+            if (delimiter == 0 || delimiter > 127 || delimiter == '"' || delimiter == '\n') {
+                throw new IllegalArgumentException("Delimiter must be an ASCII character other than a quote or newline");
+            }
+            this.delimiter = (byte) delimiter;
+            this.column = column;
+            return this;
+        }
+
+        /**
+         * Ignore the first line of the file.
+         */
+        public Builder skipHeader(boolean skipHeader) {
+            this.skipHeader = skipHeader;
+            return this;
+        }
+
+        public MappedAddressFile build() {
+            if (segmentSize < 1 || segmentSize > (1L << 30)) {
+                throw new IllegalArgumentException("segmentSize must be between 1 byte and 1 GiB");
+            }
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("parallelism must be at least 1");
+            }
+            if (column < 0) {
+                throw new IllegalArgumentException("column must not be negative");
+            }
+            return new MappedAddressFile(this);
+        }
+    }
+}
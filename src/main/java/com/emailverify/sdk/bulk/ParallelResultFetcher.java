@@ -0,0 +1,285 @@
+package com.emailverify.sdk.bulk;
+
+import com.emailverify.sdk.EmailVerifyClient;
+import com.emailverify.sdk.RateLimiter;
+import com.emailverify.sdk.exception.EmailVerifyException;
+import com.emailverify.sdk.jfr.RateLimitWaitEvent;
+import com.emailverify.sdk.model.BulkJobResponse;
+import com.emailverify.sdk.model.BulkResultItem;
+import com.emailverify.sdk.model.BulkResultsResponse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Fetches the results of a completed bulk job by splitting {@code [0, total)} into pages
+ * and requesting several pages concurrently.
+ *
+ * <p>Pages are delivered on the calling thread, so the consumer need not be thread-safe.
+ * In ordered mode a reorder buffer releases pages strictly by offset, and no more than
+ * {@code concurrency * 2} pages are fetched ahead of the next one due. In unordered mode
+ * pages are delivered as soon as they arrive.
+ *
+ * <p>When a status filter is set, or the job total is unknown, the first page is fetched
+ * alone to learn the total before the remaining pages are fanned out.
+ *
+ * <p>Each page must hold {@code min(pageSize, total - offset)} results. If the server
+ * returns fewer, for example because it caps {@code limit}, the shortfall is fetched
+ * before the page is delivered; a page that stops short fails with
+ * {@code RESULTS_INCOMPLETE}.
+ */
+public final class ParallelResultFetcher {
+    private final EmailVerifyClient client;
+    private final int pageSize;
+    private final int concurrency;
+    private final double requestsPerSecond;
+    private final boolean ordered;
+    private final String status;
+    private final Executor executor;
+
+    private ParallelResultFetcher(Builder builder) {
+        this.client = builder.client;
+        this.pageSize = builder.pageSize;
+        this.concurrency = builder.concurrency;
+        this.requestsPerSecond = builder.requestsPerSecond;
+        this.ordered = builder.ordered;
+        this.status = builder.status;
+        this.executor = builder.executor;
+    }
+
+    public static Builder builder(EmailVerifyClient client) {
+        return new Builder(client);
+    }
+
+    /**
+     * Fetch every result page of {@code job}, which should be completed.
+     */
+    public void fetch(BulkJobResponse job, Consumer<BulkResultsResponse> consumer) throws EmailVerifyException {
+        fetch(job.jobId(), status == null ? job.total() : -1, consumer);
+    }
+
+    /**
+     * Fetch every result page of {@code jobId}.
+     */
+    public void fetch(String jobId, Consumer<BulkResultsResponse> consumer) throws EmailVerifyException {
+        fetch(jobId, -1, consumer);
+    }
+
+    /**
+     * Fetch every result of {@code job} into a list.
+     */
+    public List<BulkResultItem> fetchAll(BulkJobResponse job) throws EmailVerifyException {
+        List<BulkResultItem> results = new ArrayList<>(Math.max(0, job.total()));
+        fetch(job, page -> results.addAll(page.results()));
+        return results;
+    }
+
+    private void fetch(String jobId, int knownTotal, Consumer<BulkResultsResponse> consumer) throws EmailVerifyException {
+        RateLimiter limiter = requestsPerSecond > 0 ? new RateLimiter(requestsPerSecond) : null;
+        int total = knownTotal;
+        int firstPage = 0;
+        if (total < 0) {
+            BulkResultsResponse first = request(jobId, 0, pageSize, limiter);
+            total = first.total();
+            consumer.accept(fillShortfall(jobId, first, 0, Math.min(pageSize, total), limiter));
+            firstPage = 1;
+        }
+
+        int pages = (int) ((total + (long) pageSize - 1) / pageSize);
+        if (firstPage >= pages) {
+            return;
+        }
+
+        ExecutorService owned = executor == null
+            ? Executors.newFixedThreadPool(Math.min(concurrency, pages - firstPage), r -> {
+                Thread t = new Thread(r, "emailverify-results");
+                t.setDaemon(true);
+                return t;
+            })
+            : null;
+        List<Future<Page>> submitted = new ArrayList<>();
+        try {
+            CompletionService<Page> completion = new ExecutorCompletionService<>(owned != null ? owned : executor);
+            int finalTotal = total;
+            Map<Integer, BulkResultsResponse> reorderBuffer = new HashMap<>();
+            int window = ordered ? concurrency * 2 : Integer.MAX_VALUE;
+            int nextToSubmit = firstPage;
+            int nextToDeliver = firstPage;
+            int inFlight = 0;
+
+            while (nextToDeliver < pages) {
+                while (nextToSubmit < pages && inFlight < concurrency && nextToSubmit - nextToDeliver < window) {
+                    int index = nextToSubmit++;
+                    int offset = index * pageSize;
+                    int expected = Math.min(pageSize, finalTotal - offset);
+                    submitted.add(completion.submit(() -> new Page(index, fetchPage(jobId, offset, expected, limiter))));
+                    inFlight++;
+                }
+
+                Page page = take(completion);
+                inFlight--;
+                if (!ordered) {
+                    consumer.accept(page.response());
+                    nextToDeliver++;
+                    continue;
+                }
+                reorderBuffer.put(page.index(), page.response());
+                BulkResultsResponse ready;
+                while ((ready = reorderBuffer.remove(nextToDeliver)) != null) {
+                    consumer.accept(ready);
+                    nextToDeliver++;
+                }
+            }
+        } finally {
+            if (owned != null) {
+                owned.shutdownNow();
+            } else {
+                submitted.forEach(future -> future.cancel(true));
+            }
+        }
+    }
+
+    private record Page(int index, BulkResultsResponse response) {}
+
+    private BulkResultsResponse fetchPage(String jobId, int offset, int expected, RateLimiter limiter)
+            throws EmailVerifyException {
+        return fillShortfall(jobId, request(jobId, offset, pageSize, limiter), offset, expected, limiter);
+    }
+
+    /**
+     * Top {@code page} up to {@code expected} results with follow-up requests, failing if the
+     * server stops returning results first. The returned page never has null results.
+     */
+    private BulkResultsResponse fillShortfall(String jobId, BulkResultsResponse page, int offset, int expected,
+                                              RateLimiter limiter) throws EmailVerifyException {
+        List<BulkResultItem> results = page.results() != null ? page.results() : List.of();
+        if (results.size() >= expected) {
+            return page.results() != null ? page
+                : new BulkResultsResponse(page.jobId(), page.total(), page.limit(), offset, results);
+        }
+        List<BulkResultItem> merged = new ArrayList<>(expected);
+        merged.addAll(results);
+        while (merged.size() < expected) {
+            BulkResultsResponse more = request(jobId, offset + merged.size(), expected - merged.size(), limiter);
+            if (more.results() == null || more.results().isEmpty()) {
+                throw new EmailVerifyException("Bulk job " + jobId + " returned " + merged.size() + " of "
+                    + expected + " results at offset " + offset, "RESULTS_INCOMPLETE", 0);
+            }
+            merged.addAll(more.results());
+        }
+        return new BulkResultsResponse(page.jobId(), page.total(), expected, offset, merged);
+    }
+
+    private BulkResultsResponse request(String jobId, int offset, int limit, RateLimiter limiter)
+            throws EmailVerifyException {
+        if (limiter != null) {
+            RateLimitWaitEvent wait = new RateLimitWaitEvent();
+            wait.begin();
+            try {
+                limiter.acquire();
+                wait.completeClientWait("/verify/bulk/" + jobId + "/results", 1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new EmailVerifyException("Interrupted while waiting for rate limit", "INTERRUPTED", 0);
+            }
+        }
+        return client.getBulkJobResults(jobId, limit, offset, status);
+    }
+
+    private static Page take(CompletionService<Page> completion) throws EmailVerifyException {
+        try {
+            return completion.take().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EmailVerifyException("Interrupted while fetching results", "INTERRUPTED", 0);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof EmailVerifyException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new EmailVerifyException("Failed to fetch results: " + e.getCause(), "UNKNOWN_ERROR", 0);
+        }
+    }
+
+    public static class Builder {
+        private final EmailVerifyClient client;
+        private int pageSize = 100;
+        private int concurrency = 4;
+        private double requestsPerSecond;
+        private boolean ordered = true;
+        private String status;
+        private Executor executor;
+
+        private Builder(EmailVerifyClient client) {
+            if (client == null) {
+                throw new IllegalArgumentException("Client is required");
+            }
+            this.client = client;
+        }
+
+        public Builder pageSize(int pageSize) {
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * Maximum concurrent page requests (default: 4).
+         */
+        public Builder concurrency(int concurrency) {
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        /**
+         * Cap on page requests per second across all workers. Disabled by default.
+         */
+        public Builder requestsPerSecond(double requestsPerSecond) {
+            this.requestsPerSecond = requestsPerSecond;
+            return this;
+        }
+
+        /**
+         * Deliver pages in offset order (default) or as they arrive.
+         */
+        public Builder ordered(boolean ordered) {
+            this.ordered = ordered;
+            return this;
+        }
+
+        /**
+         * Only fetch results with this status.
+         */
+        public Builder status(String status) {
+            this.status = status;
+            return this;
+        }
+
+        /**
+         * Executor for page requests. By default each fetch creates its own pool of
+         * {@code concurrency} daemon threads and shuts it down when done.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public ParallelResultFetcher build() {
+            if (pageSize < 1 || concurrency < 1) {
+                throw new IllegalArgumentException("pageSize and concurrency must be at least 1");
+            }
+            return new ParallelResultFetcher(this);
+        }
+    }
+}
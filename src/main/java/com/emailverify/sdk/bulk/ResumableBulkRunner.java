@@ -0,0 +1,182 @@
+package com.emailverify.sdk.bulk;
+
+import com.emailverify.sdk.EmailVerifyClient;
+import com.emailverify.sdk.exception.EmailVerifyException;
+import com.emailverify.sdk.exception.TimeoutException;
+import com.emailverify.sdk.jfr.BulkPollEvent;
+import com.emailverify.sdk.model.BulkJobResponse;
+import com.emailverify.sdk.model.BulkResultsResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Runs a multi-chunk bulk verification against a {@link BulkJournal}, skipping chunks
+ * that already completed, reusing job IDs that were already submitted and resuming
+ * result paging from the last recorded offset.
+ *
+ * <p>Result delivery is at-least-once: a page handed to the sink just before a crash,
+ * but not yet journaled, is delivered again on restart. A chunk whose submission
+ * succeeded but whose job ID never reached the journal is resubmitted, as is a chunk
+ * whose job failed.
+ */
+public final class ResumableBulkRunner {
+    private final EmailVerifyClient client;
+    private final BulkJournal journal;
+    private final boolean smtpCheck;
+    private final String webhookUrl;
+    private final int pageSize;
+    private final Duration pollInterval;
+    private final Duration maxWait;
+
+    /**
+     * Receives each page of results for a chunk.
+     */
+    @FunctionalInterface
+    public interface ResultSink {
+        void accept(int chunk, BulkResultsResponse page) throws IOException;
+    }
+
+    private ResumableBulkRunner(Builder builder) {
+        this.client = builder.client;
+        this.journal = builder.journal;
+        this.smtpCheck = builder.smtpCheck;
+        this.webhookUrl = builder.webhookUrl;
+        this.pageSize = builder.pageSize;
+        this.pollInterval = builder.pollInterval;
+        this.maxWait = builder.maxWait;
+    }
+
+    public static Builder builder(EmailVerifyClient client, BulkJournal journal) {
+        return new Builder(client, journal);
+    }
+
+    /**
+     * Verify every chunk, delivering results to {@code sink}. Chunk indices are positions
+     * in {@code chunks}, so the same chunk list must be supplied when resuming.
+     */
+    public void run(List<List<String>> chunks, ResultSink sink) throws EmailVerifyException, IOException {
+        for (int i = 0; i < chunks.size(); i++) {
+            runChunk(i, chunks.get(i), sink);
+        }
+    }
+
+    private void runChunk(int chunk, List<String> emails, ResultSink sink) throws EmailVerifyException, IOException {
+        BulkJournal.ChunkState state = journal.chunk(chunk);
+        if (state != null && state.completed()) {
+            return;
+        }
+
+        boolean resumed = state != null && state.jobId() != null;
+        String jobId;
+        if (resumed) {
+            jobId = state.jobId();
+        } else {
+            BulkJobResponse job = client.verifyBulk(emails, smtpCheck, webhookUrl);
+            jobId = job.jobId();
+            journal.chunkSubmitted(chunk, jobId);
+        }
+
+        if (!resumed || !"completed".equals(state.status())) {
+            awaitCompletion(chunk, jobId);
+        }
+
+        int offset = resumed ? state.resultsOffset() : 0;
+        while (true) {
+            BulkResultsResponse page = client.getBulkJobResults(jobId, pageSize, offset, null);
+            int count = page.results() != null ? page.results().size() : 0;
+            if (count == 0) {
+                break;
+            }
+            sink.accept(chunk, page);
+            offset += count;
+            journal.resultsFetched(chunk, offset);
+            if (offset >= page.total()) {
+                break;
+            }
+        }
+        journal.chunkCompleted(chunk);
+    }
+
+    private void awaitCompletion(int chunk, String jobId) throws EmailVerifyException, IOException {
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        for (int cycle = 1; ; cycle++) {
+            BulkPollEvent poll = BulkPollEvent.start();
+            BulkJobResponse status = null;
+            try {
+                status = client.getBulkJobStatus(jobId);
+                journal.jobPolled(chunk, status.status(), status.processed());
+                if ("completed".equals(status.status())) {
+                    return;
+                }
+                if ("failed".equals(status.status())) {
+                    journal.chunkFailed(chunk);
+                    throw new EmailVerifyException("Bulk job " + jobId + " for chunk " + chunk + " failed",
+                        "BULK_JOB_FAILED", 0);
+                }
+                if (System.nanoTime() - deadline >= 0) {
+                    throw new TimeoutException("Bulk job " + jobId + " did not complete within "
+                        + maxWait.toSeconds() + " seconds");
+                }
+                Thread.sleep(pollInterval.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new EmailVerifyException("Interrupted while waiting for bulk job " + jobId,
+                    "INTERRUPTED", 0);
+            } finally {
+                poll.end(jobId, status, cycle);
+            }
+        }
+    }
+
+    public static class Builder {
+        private final EmailVerifyClient client;
+        private final BulkJournal journal;
+        private boolean smtpCheck = true;
+        private String webhookUrl;
+        private int pageSize = 100;
+        private Duration pollInterval = Duration.ofSeconds(5);
+        private Duration maxWait = Duration.ofMinutes(10);
+
+        private Builder(EmailVerifyClient client, BulkJournal journal) {
+            if (client == null || journal == null) {
+                throw new IllegalArgumentException("Client and journal are required");
+            }
+            this.client = client;
+            this.journal = journal;
+        }
+
+        public Builder smtpCheck(boolean smtpCheck) {
+            this.smtpCheck = smtpCheck;
+            return this;
+        }
+
+        public Builder webhookUrl(String webhookUrl) {
+            this.webhookUrl = webhookUrl;
+            return this;
+        }
+
+        public Builder pageSize(int pageSize) {
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        public Builder pollInterval(Duration pollInterval) {
+            this.pollInterval = pollInterval;
+            return this;
+        }
+
+        public Builder maxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+            return this;
+        }
+
+        public ResumableBulkRunner build() {
+            if (pageSize < 1) {
+                throw new IllegalArgumentException("pageSize must be at least 1");
+            }
+            return new ResumableBulkRunner(this);
+        }
+    }
+}
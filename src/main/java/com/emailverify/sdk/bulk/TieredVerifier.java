@@ -0,0 +1,242 @@
+package com.emailverify.sdk.bulk;
+
+import com.emailverify.sdk.EmailVerifyClient;
+import com.emailverify.sdk.exception.EmailVerifyException;
+import com.emailverify.sdk.model.BulkJobResponse;
+import com.emailverify.sdk.model.BulkResultItem;
+import com.emailverify.sdk.model.VerificationResult;
+import com.emailverify.sdk.model.VerifyResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Two-phase verification: every address is first checked with {@code smtp_check=false},
+ * and only those whose result leaves deliverability undetermined are checked again with
+ * SMTP probing. Escalated results replace their first-pass results, so callers see one
+ * result per address either way.
+ *
+ * <p>Per-tier counts, credits and elapsed time are available from {@link #fastTier()}
+ * and {@link #smtpTier()}.
+ */
+public final class TieredVerifier {
+    private static final int MAX_BULK_SIZE = 10000;
+
+    /**
+     * Calls, addresses, credits and time spent in one tier.
+     *
+     * @param calls     single verifications or bulk jobs run
+     * @param addresses addresses checked
+     * @param elapsed   wall time of those calls, summed
+     */
+    public record TierStats(long calls, long addresses, long credits, Duration elapsed) {
+        /**
+         * Mean wall time per address.
+         */
+        public Duration perAddress() {
+            return addresses == 0 ? Duration.ZERO : elapsed.dividedBy(addresses);
+        }
+    }
+
+    private final EmailVerifyClient client;
+    private final Predicate<VerificationResult> escalate;
+    private final Duration pollInterval;
+    private final Duration maxWait;
+    private final ParallelResultFetcher fetcher;
+    private final Tier fast = new Tier();
+    private final Tier smtp = new Tier();
+
+    private TieredVerifier(Builder builder) {
+        this.client = builder.client;
+        this.escalate = builder.escalate;
+        this.pollInterval = builder.pollInterval;
+        this.maxWait = builder.maxWait;
+        this.fetcher = ParallelResultFetcher.builder(builder.client)
+            .pageSize(builder.pageSize)
+            .concurrency(builder.fetchConcurrency)
+            .build();
+    }
+
+    public static Builder builder(EmailVerifyClient client) {
+        return new Builder(client);
+    }
+
+    /**
+     * Whether a result without SMTP probing leaves deliverability open: the format and
+     * MX records are valid, the address is not disposable, the domain is not catch-all,
+     * and no SMTP check has confirmed it yet. Missing results count as undetermined.
+     */
+    public static boolean needsSmtpCheck(VerificationResult result) {
+        return result == null
+            || (result.validFormat() && result.validMx() && !result.disposable()
+                && !result.catchall() && !result.smtpValid());
+    }
+
+    /**
+     * Verify one address, escalating to an SMTP check only when needed.
+     */
+    public VerifyResponse verify(String email) throws EmailVerifyException {
+        long start = System.nanoTime();
+        VerifyResponse first = client.verify(email, false, null);
+        fast.record(1, first.creditsUsed(), System.nanoTime() - start);
+        if (!escalate.test(first.result())) {
+            return first;
+        }
+        start = System.nanoTime();
+        VerifyResponse second = client.verify(email, true, null);
+        smtp.record(1, second.creditsUsed(), System.nanoTime() - start);
+        return second;
+    }
+
+    /**
+     * Verify a list through bulk jobs: one pass without SMTP, then a second pass with SMTP
+     * for the undetermined addresses. Results are returned in first-pass order, one per
+     * distinct address after {@link EmailNormalizer normalization}; the first spelling of
+     * each address is the one submitted.
+     */
+    public List<BulkResultItem> verifyAll(List<String> emails) throws EmailVerifyException {
+        Map<String, String> byKey = new LinkedHashMap<>();
+        for (String email : emails) {
+            byKey.putIfAbsent(key(email), email);
+        }
+        List<BulkResultItem> results = runTier(new ArrayList<>(byKey.values()), false, fast);
+
+        Map<String, Integer> escalated = new HashMap<>();
+        List<String> recheck = new ArrayList<>();
+        for (int i = 0; i < results.size(); i++) {
+            BulkResultItem item = results.get(i);
+            if (escalate.test(item.result())) {
+                escalated.put(key(item.email()), i);
+                recheck.add(item.email());
+            }
+        }
+        if (recheck.isEmpty()) {
+            return results;
+        }
+
+        for (BulkResultItem item : runTier(recheck, true, smtp)) {
+            Integer index = escalated.get(key(item.email()));
+            if (index != null) {
+                results.set(index, item);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Stats for the first, non-SMTP pass.
+     */
+    public TierStats fastTier() {
+        return fast.snapshot();
+    }
+
+    /**
+     * Stats for the SMTP re-check pass.
+     */
+    public TierStats smtpTier() {
+        return smtp.snapshot();
+    }
+
+    /**
+     * Dedupe and match key: the normalized address, or the raw string if it has none.
+     */
+    private static String key(String email) {
+        String canonical = EmailNormalizer.normalize(email);
+        return canonical != null ? canonical : email;
+    }
+
+    private List<BulkResultItem> runTier(List<String> emails, boolean smtpCheck, Tier tier) throws EmailVerifyException {
+        List<BulkResultItem> results = new ArrayList<>(emails.size());
+        for (int from = 0; from < emails.size(); from += MAX_BULK_SIZE) {
+            List<String> chunk = emails.subList(from, Math.min(emails.size(), from + MAX_BULK_SIZE));
+            long start = System.nanoTime();
+            BulkJobResponse job = client.verifyBulk(chunk, smtpCheck, null);
+            BulkJobResponse done = client.waitForBulkJobCompletion(job.jobId(), pollInterval, maxWait);
+            if ("failed".equals(done.status())) {
+                throw new EmailVerifyException("Bulk job " + job.jobId() + " failed", "BULK_JOB_FAILED", 0);
+            }
+            results.addAll(fetcher.fetchAll(done));
+            tier.record(chunk.size(), done.creditsUsed(), System.nanoTime() - start);
+        }
+        return results;
+    }
+
+    private static final class Tier {
+        final LongAdder calls = new LongAdder();
+        final LongAdder addresses = new LongAdder();
+        final LongAdder credits = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+
+        void record(int count, int creditsUsed, long elapsedNanos) {
+            calls.increment();
+            addresses.add(count);
+            credits.add(creditsUsed);
+            nanos.add(elapsedNanos);
+        }
+
+        TierStats snapshot() {
+            return new TierStats(calls.sum(), addresses.sum(), credits.sum(), Duration.ofNanos(nanos.sum()));
+        }
+    }
+
+    public static class Builder {
+        private final EmailVerifyClient client;
+        private Predicate<VerificationResult> escalate = TieredVerifier::needsSmtpCheck;
+        private Duration pollInterval = Duration.ofSeconds(5);
+        private Duration maxWait = Duration.ofMinutes(10);
+        private int pageSize = 100;
+        private int fetchConcurrency = 4;
+
+        private Builder(EmailVerifyClient client) {
+            if (client == null) {
+                throw new IllegalArgumentException("Client is required");
+            }
+            this.client = client;
+        }
+
+        /**
+         * Which first-pass results get an SMTP re-check. Defaults to
+         * {@link TieredVerifier#needsSmtpCheck(VerificationResult)}.
+         */
+        public Builder escalateWhen(Predicate<VerificationResult> escalate) {
+            this.escalate = escalate;
+            return this;
+        }
+
+        public Builder pollInterval(Duration pollInterval) {
+            this.pollInterval = pollInterval;
+            return this;
+        }
+
+        public Builder maxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+            return this;
+        }
+
+        public Builder pageSize(int pageSize) {
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * Result pages fetched at once per bulk job (default: 4).
+         */
+        public Builder fetchConcurrency(int fetchConcurrency) {
+            this.fetchConcurrency = fetchConcurrency;
+            return this;
+        }
+
+        public TieredVerifier build() {
+            if (escalate == null) {
+                throw new IllegalArgumentException("Escalation predicate is required");
+            }
+            return new TieredVerifier(this);
+        }
+    }
+}
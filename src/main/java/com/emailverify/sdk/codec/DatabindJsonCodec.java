@@ -0,0 +1,37 @@
+package com.emailverify.sdk.codec;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * {@link JsonCodec} backed by Jackson databind. Handles any type, at the cost of
+ * reflective setup on first use of each type.
+ */
+public final class DatabindJsonCodec implements JsonCodec {
+    private final ObjectMapper objectMapper;
+
+    public DatabindJsonCodec() {
+        this(new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false));
+    }
+
+    public DatabindJsonCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public ObjectMapper objectMapper() {
+        return objectMapper;
+    }
+
+    @Override
+    public byte[] encode(Object value) throws IOException {
+        return objectMapper.writeValueAsBytes(value);
+    }
+
+    @Override
+    public <T> T decode(byte[] json, Type type) throws IOException {
+        return objectMapper.readValue(json, objectMapper.constructType(type));
+    }
+}
@@ -0,0 +1,20 @@
+package com.emailverify.sdk.codec;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Serializes request payloads and deserializes API responses. Implementations must be
+ * thread-safe; one instance is shared by every request of a client (or client pool).
+ */
+public interface JsonCodec {
+    /**
+     * Encode a request payload as UTF-8 JSON.
+     */
+    byte[] encode(Object value) throws IOException;
+
+    /**
+     * Decode UTF-8 JSON into {@code type}, which is a {@link Class} or a parameterized type.
+     */
+    <T> T decode(byte[] json, Type type) throws IOException;
+}
@@ -0,0 +1,355 @@
+package com.emailverify.sdk.codec;
+
+import com.emailverify.sdk.model.BulkJobResponse;
+import com.emailverify.sdk.model.BulkResultItem;
+import com.emailverify.sdk.model.BulkResultsResponse;
+import com.emailverify.sdk.model.VerificationResult;
+import com.emailverify.sdk.model.VerifyResponse;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Default {@link JsonCodec}. Decodes the hot response types ({@link VerifyResponse},
+ * {@link VerificationResult}, {@link BulkJobResponse} and {@link BulkResultsResponse})
+ * with hand-written streaming {@link JsonParser} decoders, and encodes flat map payloads
+ * with a {@link JsonGenerator}. Everything else goes to the fallback codec.
+ *
+ * <p>The streaming path avoids databind's reflective constructor resolution, so the
+ * first request is not slowed by warm-up and steady-state decoding allocates less.
+ * Unknown fields are skipped, {@code null} primitives decode as zero or
+ * {@code false}, and an object or array in a known scalar field is rejected, matching
+ * the databind configuration.
+ */
+public final class StreamingJsonCodec implements JsonCodec {
+    private final JsonFactory factory = new JsonFactory();
+    private volatile JsonCodec fallback;
+
+    /**
+     * Codec with a {@link DatabindJsonCodec} fallback, created on first use so that
+     * clients which only touch the hot types never pay for an {@code ObjectMapper}.
+     */
+    public StreamingJsonCodec() {
+    }
+
+    public StreamingJsonCodec(JsonCodec fallback) {
+        this.fallback = Objects.requireNonNull(fallback, "fallback");
+    }
+
+    @Override
+    public byte[] encode(Object value) throws IOException {
+        if (!(value instanceof Map<?, ?> map) || !isSimple(map)) {
+            return fallback().encode(value);
+        }
+        ByteArrayBuilder out = new ByteArrayBuilder(256);
+        try (JsonGenerator generator = factory.createGenerator(out)) {
+            writeValue(generator, map);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T decode(byte[] json, Type type) throws IOException {
+        if (type == VerifyResponse.class) {
+            return (T) parse(json, StreamingJsonCodec::readVerifyResponse);
+        }
+        if (type == BulkJobResponse.class) {
+            return (T) parse(json, StreamingJsonCodec::readBulkJobResponse);
+        }
+        if (type == BulkResultsResponse.class) {
+            return (T) parse(json, StreamingJsonCodec::readBulkResultsResponse);
+        }
+        if (type == VerificationResult.class) {
+            return (T) parse(json, StreamingJsonCodec::readVerificationResult);
+        }
+        return fallback().decode(json, type);
+    }
+
+    private JsonCodec fallback() {
+        JsonCodec codec = fallback;
+        if (codec == null) {
+            synchronized (this) {
+                codec = fallback;
+                if (codec == null) {
+                    codec = new DatabindJsonCodec();
+                    fallback = codec;
+                }
+            }
+        }
+        return codec;
+    }
+
+    @FunctionalInterface
+    private interface Reader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+
+    private <T> T parse(byte[] json, Reader<T> reader) throws IOException {
+        try (JsonParser parser = factory.createParser(json)) {
+            if (parser.nextToken() == null) {
+                return null;
+            }
+            return reader.read(parser);
+        }
+    }
+
+    static VerifyResponse readVerifyResponse(JsonParser p) throws IOException {
+        if (startObject(p)) {
+            return null;
+        }
+        String email = null;
+        String status = null;
+        VerificationResult result = null;
+        double score = 0;
+        String reason = null;
+        int creditsUsed = 0;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String name = p.currentName();
+            p.nextToken();
+            switch (name) {
+                case "email" -> email = stringValue(p);
+                case "status" -> status = stringValue(p);
+                case "result" -> result = readVerificationResult(p);
+                case "score" -> score = doubleValue(p);
+                case "reason" -> reason = stringValue(p);
+                case "credits_used" -> creditsUsed = intValue(p);
+                default -> p.skipChildren();
+            }
+        }
+        return new VerifyResponse(email, status, result, score, reason, creditsUsed);
+    }
+
+    static VerificationResult readVerificationResult(JsonParser p) throws IOException {
+        if (startObject(p)) {
+            return null;
+        }
+        int flags = 0;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String name = p.currentName();
+            p.nextToken();
+            int flag = switch (name) {
+                case "deliverable" -> VerificationResult.DELIVERABLE;
+                case "valid_format" -> VerificationResult.VALID_FORMAT;
+                case "valid_domain" -> VerificationResult.VALID_DOMAIN;
+                case "valid_mx" -> VerificationResult.VALID_MX;
+                case "disposable" -> VerificationResult.DISPOSABLE;
+                case "role" -> VerificationResult.ROLE;
+                case "catchall" -> VerificationResult.CATCHALL;
+                case "free" -> VerificationResult.FREE;
+                case "smtp_valid" -> VerificationResult.SMTP_VALID;
+                default -> 0;
+            };
+            if (flag == 0) {
+                p.skipChildren();
+            } else if (booleanValue(p)) {
+                flags |= flag;
+            }
+        }
+        return VerificationResult.fromFlags(flags);
+    }
+
+    static BulkJobResponse readBulkJobResponse(JsonParser p) throws IOException {
+        if (startObject(p)) {
+            return null;
+        }
+        String jobId = null;
+        String status = null;
+        int total = 0;
+        int processed = 0;
+        int valid = 0;
+        int invalid = 0;
+        int unknown = 0;
+        int creditsUsed = 0;
+        String createdAt = null;
+        String completedAt = null;
+        Integer progressPercent = null;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String name = p.currentName();
+            p.nextToken();
+            switch (name) {
+                case "job_id" -> jobId = stringValue(p);
+                case "status" -> status = stringValue(p);
+                case "total" -> total = intValue(p);
+                case "processed" -> processed = intValue(p);
+                case "valid" -> valid = intValue(p);
+                case "invalid" -> invalid = intValue(p);
+                case "unknown" -> unknown = intValue(p);
+                case "credits_used" -> creditsUsed = intValue(p);
+                case "created_at" -> createdAt = stringValue(p);
+                case "completed_at" -> completedAt = stringValue(p);
+                case "progress_percent" ->
+                    progressPercent = p.currentToken() == JsonToken.VALUE_NULL ? null : intValue(p);
+                default -> p.skipChildren();
+            }
+        }
+        return new BulkJobResponse(jobId, status, total, processed, valid, invalid, unknown,
+            creditsUsed, createdAt, completedAt, progressPercent);
+    }
+
+    static BulkResultsResponse readBulkResultsResponse(JsonParser p) throws IOException {
+        if (startObject(p)) {
+            return null;
+        }
+        String jobId = null;
+        int total = 0;
+        int limit = 0;
+        int offset = 0;
+        List<BulkResultItem> results = null;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String name = p.currentName();
+            p.nextToken();
+            switch (name) {
+                case "job_id" -> jobId = stringValue(p);
+                case "total" -> total = intValue(p);
+                case "limit" -> limit = intValue(p);
+                case "offset" -> offset = intValue(p);
+                case "results" -> results = readBulkResultItems(p);
+                default -> p.skipChildren();
+            }
+        }
+        return new BulkResultsResponse(jobId, total, limit, offset, results);
+    }
+
+    private static List<BulkResultItem> readBulkResultItems(JsonParser p) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(p, JsonToken.START_ARRAY);
+        List<BulkResultItem> items = new ArrayList<>();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            items.add(readBulkResultItem(p));
+        }
+        return items;
+    }
+
+    private static BulkResultItem readBulkResultItem(JsonParser p) throws IOException {
+        if (startObject(p)) {
+            return null;
+        }
+        String email = null;
+        String status = null;
+        VerificationResult result = null;
+        double score = 0;
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String name = p.currentName();
+            p.nextToken();
+            switch (name) {
+                case "email" -> email = stringValue(p);
+                case "status" -> status = stringValue(p);
+                case "result" -> result = readVerificationResult(p);
+                case "score" -> score = doubleValue(p);
+                default -> p.skipChildren();
+            }
+        }
+        return new BulkResultItem(email, status, result, score);
+    }
+
+    /**
+     * Returns {@code true} if the current token is {@code null}; otherwise requires an object start.
+     */
+    private static boolean startObject(JsonParser p) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NULL) {
+            return true;
+        }
+        expect(p, JsonToken.START_OBJECT);
+        return false;
+    }
+
+    private static String stringValue(JsonParser p) throws IOException {
+        return scalar(p).getValueAsString();
+    }
+
+    private static int intValue(JsonParser p) throws IOException {
+        return scalar(p).getValueAsInt();
+    }
+
+    private static double doubleValue(JsonParser p) throws IOException {
+        return scalar(p).getValueAsDouble();
+    }
+
+    private static boolean booleanValue(JsonParser p) throws IOException {
+        return scalar(p).getValueAsBoolean();
+    }
+
+    /**
+     * Rejects an object or array where a known field expects a scalar, as databind does,
+     * instead of reading on from inside it.
+     */
+    private static JsonParser scalar(JsonParser p) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+            throw new JsonParseException(p, "Expected a scalar for \"" + p.currentName() + "\" but found " + token);
+        }
+        return p;
+    }
+
+    private static void expect(JsonParser p, JsonToken token) throws IOException {
+        if (p.currentToken() != token) {
+            throw new JsonParseException(p, "Expected " + token + " but found " + p.currentToken());
+        }
+    }
+
+    private static boolean isSimple(Object value) {
+        if (value == null || value instanceof String || value instanceof Boolean
+                || value instanceof Integer || value instanceof Long || value instanceof Double) {
+            return true;
+        }
+        if (value instanceof Map<?, ?> map) {
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!(entry.getKey() instanceof String) || !isSimple(entry.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (value instanceof List<?> list) {
+            for (Object element : list) {
+                if (!isSimple(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static void writeValue(JsonGenerator g, Object value) throws IOException {
+        if (value == null) {
+            g.writeNull();
+        } else if (value instanceof String s) {
+            g.writeString(s);
+        } else if (value instanceof Boolean b) {
+            g.writeBoolean(b);
+        } else if (value instanceof Integer i) {
+            g.writeNumber(i);
+        } else if (value instanceof Long l) {
+            g.writeNumber(l);
+        } else if (value instanceof Double d) {
+            g.writeNumber(d);
+        } else if (value instanceof Map<?, ?> map) {
+            g.writeStartObject();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                g.writeFieldName((String) entry.getKey());
+                writeValue(g, entry.getValue());
+            }
+            g.writeEndObject();
+        } else {
+            g.writeStartArray();
+            for (Object element : (List<?>) value) {
+                writeValue(g, element);
+            }
+            g.writeEndArray();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.emailverify.sdk.exception;
+
+/**
+ * A failed API call described as a value rather than a thrown exception.
+ *
+ * @param code       API error code, e.g. {@code INVALID_REQUEST}, or an SDK code such as
+ *                   {@code NETWORK_ERROR}, {@code TIMEOUT} or {@code INTERRUPTED}
+ * @param statusCode HTTP status, or 0 if no response was received
+ * @param details    extra detail from the API, may be null
+ * @param retryAfter seconds from the {@code Retry-After} header of a 429, else 0
+ */
+public record ApiError(String code, String message, int statusCode, String details, int retryAfter) {
+    public ApiError(String code, String message, int statusCode) {
+        this(code, message, statusCode, null, 0);
+    }
+
+    /**
+     * Whether the same request may succeed later: rate limits, server errors and
+     * network failures.
+     */
+    public boolean isRetryable() {
+        return statusCode == 429 || statusCode >= 500 || "NETWORK_ERROR".equals(code);
+    }
+
+    /**
+     * The exception the throwing API reports for this error.
+     */
+    public EmailVerifyException toException() {
+        return toException(false);
+    }
+
+    /**
+     * The exception the throwing API reports for this error, optionally without a
+     * captured stack trace.
+     */
+    public EmailVerifyException toException(boolean stackless) {
+        boolean writable = !stackless;
+        return switch (statusCode) {
+            case 401 -> new AuthenticationException(message, writable);
+            case 403 -> "INSUFFICIENT_CREDITS".equals(code)
+                ? new InsufficientCreditsException(message, writable)
+                : new EmailVerifyException(message, code, statusCode, details, writable);
+            case 404 -> new NotFoundException(message, writable);
+            case 429 -> new RateLimitException(message, retryAfter, writable);
+            case 400 -> new ValidationException(message, details, writable);
+            default -> "TIMEOUT".equals(code)
+                ? new TimeoutException(message, writable)
+                : new EmailVerifyException(message, code, statusCode, details, writable);
+        };
+    }
+}
@@ -8,4 +8,8 @@ public class AuthenticationException extends EmailVerifyException {
     public AuthenticationException(String message) {
         super(message, "INVALID_API_KEY", 401);
     }
+
+    AuthenticationException(String message, boolean writableStackTrace) {
+        super(message, "INVALID_API_KEY", 401, null, writableStackTrace);
+    }
 }
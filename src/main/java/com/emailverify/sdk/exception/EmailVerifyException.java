@@ -10,7 +10,16 @@ public class EmailVerifyException extends Exception {
     }
 
     public EmailVerifyException(String message, String errorCode, int statusCode, String details) {
-        super(message);
+        this(message, errorCode, statusCode, details, true);
+    }
+
+    /**
+     * With {@code writableStackTrace} false no stack trace is captured, which makes the
+     * exception much cheaper to create.
+     */
+    protected EmailVerifyException(String message, String errorCode, int statusCode, String details,
+                                   boolean writableStackTrace) {
+        super(message, null, true, writableStackTrace);
         this.errorCode = errorCode;
         this.statusCode = statusCode;
         this.details = details;
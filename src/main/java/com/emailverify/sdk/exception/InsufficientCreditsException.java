@@ -8,4 +8,8 @@ public class InsufficientCreditsException extends EmailVerifyException {
     public InsufficientCreditsException(String message) {
         super(message, "INSUFFICIENT_CREDITS", 403);
     }
+
+    InsufficientCreditsException(String message, boolean writableStackTrace) {
+        super(message, "INSUFFICIENT_CREDITS", 403, null, writableStackTrace);
+    }
 }
@@ -8,4 +8,8 @@ public class NotFoundException extends EmailVerifyException {
     public NotFoundException(String message) {
         super(message, "NOT_FOUND", 404);
     }
+
+    NotFoundException(String message, boolean writableStackTrace) {
+        super(message, "NOT_FOUND", 404, null, writableStackTrace);
+    }
 }
@@ -12,6 +12,11 @@ public class RateLimitException extends EmailVerifyException {
         this.retryAfter = retryAfter;
     }
 
+    RateLimitException(String message, int retryAfter, boolean writableStackTrace) {
+        super(message, "RATE_LIMIT_EXCEEDED", 429, null, writableStackTrace);
+        this.retryAfter = retryAfter;
+    }
+
     public int getRetryAfter() {
         return retryAfter;
     }
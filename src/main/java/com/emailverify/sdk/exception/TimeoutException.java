@@ -8,4 +8,8 @@ public class TimeoutException extends EmailVerifyException {
     public TimeoutException(String message) {
         super(message, "TIMEOUT", 504);
     }
+
+    TimeoutException(String message, boolean writableStackTrace) {
+        super(message, "TIMEOUT", 504, null, writableStackTrace);
+    }
 }
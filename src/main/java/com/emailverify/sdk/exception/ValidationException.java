@@ -8,4 +8,8 @@ public class ValidationException extends EmailVerifyException {
     public ValidationException(String message, String details) {
         super(message, "INVALID_REQUEST", 400, details);
     }
+
+    ValidationException(String message, String details, boolean writableStackTrace) {
+        super(message, "INVALID_REQUEST", 400, details, writableStackTrace);
+    }
 }
@@ -0,0 +1,401 @@
+package com.emailverify.sdk.flow;
+
+import com.emailverify.sdk.EmailVerifyClient;
+import com.emailverify.sdk.RateLimiter;
+import com.emailverify.sdk.exception.EmailVerifyException;
+import com.emailverify.sdk.jfr.RateLimitWaitEvent;
+import com.emailverify.sdk.model.VerifyResponse;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * Backpressured {@link Flow.Processor} that verifies each upstream address with
+ * {@link EmailVerifyClient#verify(String, boolean, Integer)}.
+ *
+ * <p>Upstream items are requested only while there is an in-flight permit free and an
+ * unclaimed unit of downstream demand, so neither the API nor the local buffer is ever
+ * overrun. When a rate limit is configured, each call also waits for a token before it
+ * is sent. Per-item API failures are handed to the item error handler and the stream
+ * continues; only upstream errors or unexpected runtime failures terminate it.
+ *
+ * <p>Responses are emitted in completion order, not input order.
+ */
+public final class VerificationProcessor implements Flow.Processor<String, VerifyResponse> {
+    private final EmailVerifyClient client;
+    private final boolean smtpCheck;
+    private final Integer timeout;
+    private final int maxInFlight;
+    private final RateLimiter rateLimiter;
+    private final BiConsumer<String, EmailVerifyException> itemErrorHandler;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+
+    private final AtomicInteger wip = new AtomicInteger();
+    private final ArrayDeque<VerifyResponse> ready = new ArrayDeque<>();
+
+    // Guarded by this.
+    private Flow.Subscription upstream;
+    private Flow.Subscriber<? super VerifyResponse> downstream;
+    private boolean downstreamReady;
+    private long demand;
+    private long upstreamOutstanding;
+    private int inFlight;
+    private boolean upstreamDone;
+    private Throwable error;
+    private boolean cancelled;
+    private boolean terminated;
+
+    private VerificationProcessor(Builder builder) {
+        this.client = builder.client;
+        this.smtpCheck = builder.smtpCheck;
+        this.timeout = builder.timeout;
+        this.maxInFlight = builder.maxInFlight;
+        this.rateLimiter = builder.requestsPerSecond > 0
+            ? new RateLimiter(builder.requestsPerSecond, builder.maxInFlight)
+            : null;
+        this.itemErrorHandler = builder.itemErrorHandler;
+        if (builder.executor != null) {
+            this.executor = builder.executor;
+            this.ownedExecutor = null;
+        } else {
+            this.ownedExecutor = Executors.newFixedThreadPool(builder.maxInFlight, r -> {
+                Thread t = new Thread(r, "emailverify-flow");
+                t.setDaemon(true);
+                return t;
+            });
+            this.executor = ownedExecutor;
+        }
+    }
+
+    public static Builder builder(EmailVerifyClient client) {
+        return new Builder(client);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super VerifyResponse> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        synchronized (this) {
+            if (downstream == null) {
+                downstream = subscriber;
+            } else {
+                subscriber.onSubscribe(NoopSubscription.INSTANCE);
+                subscriber.onError(new IllegalStateException("VerificationProcessor allows only one subscriber"));
+                return;
+            }
+        }
+        subscriber.onSubscribe(new DownstreamSubscription());
+        synchronized (this) {
+            // Nothing may be signalled to the subscriber until onSubscribe has returned.
+            downstreamReady = true;
+        }
+        drain();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription, "subscription");
+        synchronized (this) {
+            if (upstream != null || cancelled) {
+                subscription.cancel();
+                return;
+            }
+            upstream = subscription;
+        }
+        drain();
+    }
+
+    @Override
+    public void onNext(String email) {
+        Objects.requireNonNull(email, "email");
+        synchronized (this) {
+            if (cancelled || terminated) {
+                return;
+            }
+            upstreamOutstanding--;
+            inFlight++;
+        }
+        try {
+            executor.execute(() -> process(email));
+        } catch (RejectedExecutionException e) {
+            fail(e);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        synchronized (this) {
+            if (upstreamDone) {
+                return;
+            }
+            upstreamDone = true;
+            error = throwable;
+        }
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        synchronized (this) {
+            upstreamDone = true;
+        }
+        drain();
+    }
+
+    /**
+     * Number of verifications currently executing.
+     */
+    public synchronized int inFlight() {
+        return inFlight;
+    }
+
+    private void process(String email) {
+        try {
+            if (rateLimiter != null) {
+                RateLimitWaitEvent wait = new RateLimitWaitEvent();
+                wait.begin();
+                rateLimiter.acquire();
+                wait.completeClientWait("/verify", 1);
+            }
+            VerifyResponse response = client.verify(email, smtpCheck, timeout);
+            synchronized (this) {
+                // Once the stream has terminated, late results have nowhere to go.
+                if (!cancelled && !terminated) {
+                    ready.add(response);
+                }
+            }
+        } catch (EmailVerifyException e) {
+            itemFailed(email, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            itemFailed(email, new EmailVerifyException("Interrupted while waiting for rate limit", "INTERRUPTED", 0));
+        } catch (RuntimeException e) {
+            fail(e);
+        } finally {
+            synchronized (this) {
+                inFlight--;
+            }
+            drain();
+        }
+    }
+
+    private void itemFailed(String email, EmailVerifyException e) {
+        synchronized (this) {
+            if (cancelled || terminated) {
+                return;
+            }
+        }
+        try {
+            itemErrorHandler.accept(email, e);
+        } catch (RuntimeException ignored) {
+            // A misbehaving handler must not take the stream down.
+        }
+    }
+
+    private void fail(Throwable t) {
+        Flow.Subscription toCancel;
+        synchronized (this) {
+            if (upstreamDone && error != null) {
+                return;
+            }
+            upstreamDone = true;
+            error = t;
+            toCancel = upstream;
+        }
+        if (toCancel != null) {
+            toCancel.cancel();
+        }
+        drain();
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        while (true) {
+            Flow.Subscriber<? super VerifyResponse> subscriber;
+            Flow.Subscription toRequest = null;
+            long request = 0;
+            boolean complete = false;
+            Throwable terminalError = null;
+
+            synchronized (this) {
+                subscriber = downstreamReady ? downstream : null;
+            }
+            if (subscriber != null) {
+                while (true) {
+                    VerifyResponse next;
+                    synchronized (this) {
+                        if (cancelled || demand == 0 || ready.isEmpty()) {
+                            break;
+                        }
+                        next = ready.poll();
+                        demand--;
+                    }
+                    subscriber.onNext(next);
+                }
+
+                synchronized (this) {
+                    if (!cancelled && !terminated) {
+                        if (upstreamDone && (error != null || (inFlight == 0 && ready.isEmpty()))) {
+                            terminated = true;
+                            terminalError = error;
+                            complete = terminalError == null;
+                            ready.clear();
+                        } else if (upstream != null && !upstreamDone) {
+                            // A failed item never reaches `ready`, so its claim on demand is
+                            // released once it leaves `inFlight` and a replacement is requested.
+                            long committed = inFlight + upstreamOutstanding;
+                            long byPermits = maxInFlight - committed;
+                            long byDemand = demand - ready.size() - committed;
+                            request = Math.min(byPermits, byDemand);
+                            if (request > 0) {
+                                upstreamOutstanding += request;
+                                toRequest = upstream;
+                            }
+                        }
+                    }
+                }
+            }
+
+            if (toRequest != null) {
+                toRequest.request(request);
+            }
+            if (complete || terminalError != null) {
+                shutdownOwnedExecutor();
+                if (complete) {
+                    subscriber.onComplete();
+                } else {
+                    subscriber.onError(terminalError);
+                }
+            }
+
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    private void shutdownOwnedExecutor() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    private final class DownstreamSubscription implements Flow.Subscription {
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                fail(new IllegalArgumentException("request must be positive, was " + n));
+                return;
+            }
+            synchronized (VerificationProcessor.this) {
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            Flow.Subscription toCancel;
+            synchronized (VerificationProcessor.this) {
+                if (cancelled) {
+                    return;
+                }
+                cancelled = true;
+                ready.clear();
+                toCancel = upstream;
+            }
+            if (toCancel != null) {
+                toCancel.cancel();
+            }
+            shutdownOwnedExecutor();
+        }
+    }
+
+    private enum NoopSubscription implements Flow.Subscription {
+        INSTANCE;
+
+        @Override
+        public void request(long n) {}
+
+        @Override
+        public void cancel() {}
+    }
+
+    public static class Builder {
+        private final EmailVerifyClient client;
+        private boolean smtpCheck = true;
+        private Integer timeout;
+        private int maxInFlight = 8;
+        private double requestsPerSecond;
+        private BiConsumer<String, EmailVerifyException> itemErrorHandler = (email, e) -> {};
+        private Executor executor;
+
+        private Builder(EmailVerifyClient client) {
+            if (client == null) {
+                throw new IllegalArgumentException("Client is required");
+            }
+            this.client = client;
+        }
+
+        public Builder smtpCheck(boolean smtpCheck) {
+            this.smtpCheck = smtpCheck;
+            return this;
+        }
+
+        public Builder timeout(Integer timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        /**
+         * Maximum number of concurrent verify calls (default: 8).
+         */
+        public Builder maxInFlight(int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        /**
+         * Cap on verify calls per second. Disabled by default.
+         */
+        public Builder requestsPerSecond(double requestsPerSecond) {
+            this.requestsPerSecond = requestsPerSecond;
+            return this;
+        }
+
+        /**
+         * Called for each address whose verification failed. The default drops it.
+         */
+        public Builder onItemError(BiConsumer<String, EmailVerifyException> itemErrorHandler) {
+            this.itemErrorHandler = Objects.requireNonNull(itemErrorHandler, "itemErrorHandler");
+            return this;
+        }
+
+        /**
+         * Executor for the blocking verify calls. By default a fixed pool of
+         * {@code maxInFlight} daemon threads is created and shut down on termination.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public VerificationProcessor build() {
+            if (maxInFlight < 1) {
+                throw new IllegalArgumentException("maxInFlight must be at least 1");
+            }
+            return new VerificationProcessor(this);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.emailverify.sdk.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One HTTP attempt against the API, from sending the request to reading the response body.
+ */
+@Name("com.emailverify.ApiRequest")
+@Label("API Request")
+@Category({"EmailVerify", "HTTP"})
+@Description("HTTP attempt against the EmailVerify API")
+public final class ApiRequestEvent extends Event {
+    @Label("Method")
+    String method;
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Status Code")
+    @Description("HTTP status, or 0 if no response was received")
+    int statusCode;
+
+    @Label("Request Bytes")
+    @DataAmount
+    long requestBytes;
+
+    @Label("Response Bytes")
+    @DataAmount
+    long responseBytes;
+
+    @Label("Attempt")
+    @Description("1 for the first attempt, higher for retries")
+    int attempt;
+
+    @Label("Priority")
+    String priority;
+
+    /**
+     * Fill in the fields and commit, if the event is being recorded.
+     */
+    public void complete(String method, String endpoint, int statusCode, long requestBytes, long responseBytes,
+                         int attempt, String priority) {
+        if (shouldCommit()) {
+            this.method = method;
+            this.endpoint = endpoint;
+            this.statusCode = statusCode;
+            this.requestBytes = requestBytes;
+            this.responseBytes = responseBytes;
+            this.attempt = attempt;
+            this.priority = priority;
+            commit();
+        }
+    }
+}
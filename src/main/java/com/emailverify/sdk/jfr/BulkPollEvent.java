@@ -0,0 +1,61 @@
+package com.emailverify.sdk.jfr;
+
+import com.emailverify.sdk.model.BulkJobResponse;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One cycle of waiting for a bulk job: the status request plus the sleep that follows it.
+ * Poll loops call {@link #start()} at the top of each cycle and {@link #end} from a
+ * {@code finally} block, so every way out of the cycle is recorded once.
+ */
+@Name("com.emailverify.BulkPoll")
+@Label("Bulk Poll")
+@Category({"EmailVerify", "Bulk"})
+@Description("Status check of a bulk job and the wait before the next one")
+public final class BulkPollEvent extends Event {
+    @Label("Job ID")
+    String jobId;
+
+    @Label("Job Status")
+    String jobStatus;
+
+    @Label("Processed")
+    int processed;
+
+    @Label("Total")
+    int total;
+
+    @Label("Cycle")
+    @Description("1 for the first poll of the job")
+    int cycle;
+
+    /**
+     * Begin timing a poll cycle.
+     */
+    public static BulkPollEvent start() {
+        BulkPollEvent event = new BulkPollEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Fill in the fields and commit, if the event is being recorded. {@code status} is null
+     * when the status request itself failed.
+     */
+    public void end(String jobId, BulkJobResponse status, int cycle) {
+        if (shouldCommit()) {
+            this.jobId = jobId;
+            this.cycle = cycle;
+            if (status != null) {
+                this.jobStatus = status.status();
+                this.processed = status.processed();
+                this.total = status.total();
+            }
+            commit();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.emailverify.sdk.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+/**
+ * Wait caused by rate limiting: a sleep after a 429 response ({@code cause} "server"),
+ * or a wait for a client-side rate limit token or request slot ({@code cause} "client").
+ * Waits shorter than the 1 ms threshold are not recorded by default.
+ */
+@Name("com.emailverify.RateLimitWait")
+@Label("Rate Limit Wait")
+@Category({"EmailVerify", "HTTP"})
+@Description("Wait for a rate limit, either after a 429 response or before sending")
+@Threshold("1 ms")
+public final class RateLimitWaitEvent extends Event {
+    @Label("Cause")
+    @Description("\"server\" for a 429 response, \"client\" for a client-side limit")
+    String cause;
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Attempt")
+    @Description("The attempt that was rate limited or is waiting to be sent")
+    int attempt;
+
+    @Label("Retry After")
+    @Description("Value of the Retry-After header, 0 if absent")
+    @Timespan(Timespan.SECONDS)
+    long retryAfter;
+
+    @Label("Planned Wait")
+    @Timespan(Timespan.MILLISECONDS)
+    long plannedWait;
+
+    /**
+     * Fill in the fields of a wait after a 429 response and commit, if the event is being
+     * recorded.
+     */
+    public void complete(String endpoint, int attempt, int retryAfterSeconds, long plannedWaitMillis) {
+        // Ended first so the threshold check sees the real duration.
+        end();
+        if (shouldCommit()) {
+            this.cause = "server";
+            this.endpoint = endpoint;
+            this.attempt = attempt;
+            this.retryAfter = retryAfterSeconds;
+            this.plannedWait = plannedWaitMillis;
+            commit();
+        }
+    }
+
+    /**
+     * Fill in the fields of a client-side wait before sending and commit, if the event is
+     * being recorded and the wait reached the threshold.
+     */
+    public void completeClientWait(String endpoint, int attempt) {
+        end();
+        if (shouldCommit()) {
+            this.cause = "client";
+            this.endpoint = endpoint;
+            this.attempt = attempt;
+            commit();
+        }
+    }
+}
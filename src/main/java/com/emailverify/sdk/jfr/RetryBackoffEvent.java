@@ -0,0 +1,44 @@
+package com.emailverify.sdk.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Sleep before retrying a request that failed with a server error.
+ */
+@Name("com.emailverify.RetryBackoff")
+@Label("Retry Backoff")
+@Category({"EmailVerify", "HTTP"})
+@Description("Backoff sleep before retrying a failed API request")
+public final class RetryBackoffEvent extends Event {
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Attempt")
+    @Description("The attempt that failed")
+    int attempt;
+
+    @Label("Status Code")
+    int statusCode;
+
+    @Label("Planned Wait")
+    @Timespan(Timespan.MILLISECONDS)
+    long plannedWait;
+
+    /**
+     * Fill in the fields and commit, if the event is being recorded.
+     */
+    public void complete(String endpoint, int attempt, int statusCode, long plannedWaitMillis) {
+        if (shouldCommit()) {
+            this.endpoint = endpoint;
+            this.attempt = attempt;
+            this.statusCode = statusCode;
+            this.plannedWait = plannedWaitMillis;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.emailverify.sdk.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * HMAC check of a webhook delivery's signature.
+ */
+@Name("com.emailverify.WebhookSignature")
+@Label("Webhook Signature Check")
+@Category({"EmailVerify", "Webhooks"})
+@Description("Verification of a webhook signature")
+public final class WebhookSignatureEvent extends Event {
+    @Label("Valid")
+    boolean valid;
+
+    @Label("Payload Bytes")
+    @DataAmount
+    long payloadBytes;
+
+    /**
+     * Fill in the fields and commit, if the event is being recorded.
+     */
+    public void complete(boolean valid, long payloadBytes) {
+        if (shouldCommit()) {
+            this.valid = valid;
+            this.payloadBytes = payloadBytes;
+            commit();
+        }
+    }
+}
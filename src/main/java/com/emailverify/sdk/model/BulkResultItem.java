@@ -6,6 +6,15 @@ import java.util.Map;
 public record BulkResultItem(
     @JsonProperty("email") String email,
     @JsonProperty("status") String status,
-    @JsonProperty("result") Map<String, Object> result,
+    @JsonProperty("result") VerificationResult result,
     @JsonProperty("score") double score
-) {}
+) {
+    /**
+     * The nine typed flags as a wire-named map, built on demand. Returns an empty map if
+     * the response carried no result. Any other result fields the server sent are not
+     * kept; use {@code EmailVerifyClient.getBulkJobResultsRaw} for the page as sent.
+     */
+    public Map<String, Object> flagsMap() {
+        return result != null ? result.toMap() : Map.of();
+    }
+}
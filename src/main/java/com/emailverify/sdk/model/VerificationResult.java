@@ -2,6 +2,9 @@ package com.emailverify.sdk.model;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 public record VerificationResult(
     @JsonProperty("deliverable") boolean deliverable,
     @JsonProperty("valid_format") boolean validFormat,
@@ -12,4 +15,63 @@ public record VerificationResult(
     @JsonProperty("catchall") boolean catchall,
     @JsonProperty("free") boolean free,
     @JsonProperty("smtp_valid") boolean smtpValid
-) {}
+) {
+    public static final int DELIVERABLE = 1;
+    public static final int VALID_FORMAT = 1 << 1;
+    public static final int VALID_DOMAIN = 1 << 2;
+    public static final int VALID_MX = 1 << 3;
+    public static final int DISPOSABLE = 1 << 4;
+    public static final int ROLE = 1 << 5;
+    public static final int CATCHALL = 1 << 6;
+    public static final int FREE = 1 << 7;
+    public static final int SMTP_VALID = 1 << 8;
+
+    /**
+     * Pack the nine flags into a bitfield using the constants above.
+     */
+    public int flags() {
+        return (deliverable ? DELIVERABLE : 0)
+            | (validFormat ? VALID_FORMAT : 0)
+            | (validDomain ? VALID_DOMAIN : 0)
+            | (validMx ? VALID_MX : 0)
+            | (disposable ? DISPOSABLE : 0)
+            | (role ? ROLE : 0)
+            | (catchall ? CATCHALL : 0)
+            | (free ? FREE : 0)
+            | (smtpValid ? SMTP_VALID : 0);
+    }
+
+    /**
+     * Rebuild a result from a bitfield produced by {@link #flags()}.
+     */
+    public static VerificationResult fromFlags(int flags) {
+        return new VerificationResult(
+            (flags & DELIVERABLE) != 0,
+            (flags & VALID_FORMAT) != 0,
+            (flags & VALID_DOMAIN) != 0,
+            (flags & VALID_MX) != 0,
+            (flags & DISPOSABLE) != 0,
+            (flags & ROLE) != 0,
+            (flags & CATCHALL) != 0,
+            (flags & FREE) != 0,
+            (flags & SMTP_VALID) != 0
+        );
+    }
+
+    /**
+     * The result as a wire-named map, for callers that need untyped access.
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("deliverable", deliverable);
+        map.put("valid_format", validFormat);
+        map.put("valid_domain", validDomain);
+        map.put("valid_mx", validMx);
+        map.put("disposable", disposable);
+        map.put("role", role);
+        map.put("catchall", catchall);
+        map.put("free", free);
+        map.put("smtp_valid", smtpValid);
+        return map;
+    }
+}
@@ -0,0 +1,43 @@
+package com.emailverify.sdk.model;
+
+/**
+ * Verification status values returned by the API.
+ */
+public enum VerificationStatus {
+    VALID("valid"),
+    INVALID("invalid"),
+    UNKNOWN("unknown"),
+    ACCEPT_ALL("accept_all"),
+    /** A status this SDK version does not recognize. */
+    OTHER(null);
+
+    private static final VerificationStatus[] VALUES = values();
+
+    private final String value;
+
+    VerificationStatus(String value) {
+        this.value = value;
+    }
+
+    /**
+     * The wire value, or {@code null} for {@link #OTHER}.
+     */
+    public String value() {
+        return value;
+    }
+
+    public static VerificationStatus fromValue(String value) {
+        if (value != null) {
+            for (VerificationStatus status : VALUES) {
+                if (value.equals(status.value)) {
+                    return status;
+                }
+            }
+        }
+        return OTHER;
+    }
+
+    public static VerificationStatus fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
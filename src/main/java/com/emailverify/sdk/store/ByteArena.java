@@ -0,0 +1,123 @@
+package com.emailverify.sdk.store;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Growable append-only byte region holding interned email addresses back to back.
+ */
+abstract class ByteArena {
+    static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    abstract int size();
+
+    abstract void append(byte[] bytes);
+
+    abstract byte get(int index);
+
+    abstract void copy(int offset, byte[] target, int length);
+
+    abstract long capacityBytes();
+
+    boolean matches(int offset, int length, byte[] bytes) {
+        if (length != bytes.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (get(offset + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static int grow(int current, int required) {
+        if (required > MAX_CAPACITY || required < 0) {
+            throw new IllegalStateException("Email arena exceeds 2 GB");
+        }
+        long next = Math.max((long) current * 2, required);
+        return (int) Math.min(next, MAX_CAPACITY);
+    }
+
+    static final class Heap extends ByteArena {
+        private byte[] bytes;
+        private int size;
+
+        Heap(int initialCapacity) {
+            bytes = new byte[Math.max(64, initialCapacity)];
+        }
+
+        @Override
+        int size() {
+            return size;
+        }
+
+        @Override
+        void append(byte[] src) {
+            if (size + src.length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, grow(bytes.length, size + src.length));
+            }
+            System.arraycopy(src, 0, bytes, size, src.length);
+            size += src.length;
+        }
+
+        @Override
+        byte get(int index) {
+            return bytes[index];
+        }
+
+        @Override
+        void copy(int offset, byte[] target, int length) {
+            System.arraycopy(bytes, offset, target, 0, length);
+        }
+
+        @Override
+        boolean matches(int offset, int length, byte[] other) {
+            return length == other.length && Arrays.equals(bytes, offset, offset + length, other, 0, length);
+        }
+
+        @Override
+        long capacityBytes() {
+            return bytes.length;
+        }
+    }
+
+    static final class Direct extends ByteArena {
+        private ByteBuffer buffer;
+
+        Direct(int initialCapacity) {
+            buffer = ByteBuffer.allocateDirect(Math.max(64, initialCapacity));
+        }
+
+        @Override
+        int size() {
+            return buffer.position();
+        }
+
+        @Override
+        void append(byte[] src) {
+            if (buffer.remaining() < src.length) {
+                ByteBuffer larger = ByteBuffer.allocateDirect(grow(buffer.capacity(), buffer.position() + src.length));
+                buffer.flip();
+                larger.put(buffer);
+                buffer = larger;
+            }
+            buffer.put(src);
+        }
+
+        @Override
+        byte get(int index) {
+            return buffer.get(index);
+        }
+
+        @Override
+        void copy(int offset, byte[] target, int length) {
+            buffer.get(offset, target, 0, length);
+        }
+
+        @Override
+        long capacityBytes() {
+            return buffer.capacity();
+        }
+    }
+}
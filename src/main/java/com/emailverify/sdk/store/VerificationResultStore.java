@@ -0,0 +1,366 @@
+package com.emailverify.sdk.store;
+
+import com.emailverify.sdk.bulk.EmailNormalizer;
+import com.emailverify.sdk.model.BulkResultItem;
+import com.emailverify.sdk.model.VerificationResult;
+import com.emailverify.sdk.model.VerificationStatus;
+import com.emailverify.sdk.model.VerifyResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+/**
+ * Columnar in-memory store for large numbers of verification outcomes.
+ *
+ * <p>Each result occupies one row spread across primitive columns: a status byte, a
+ * float score and the nine {@link VerificationResult} flags packed into a short, plus a
+ * bit recording whether the result was present at all. Status strings this SDK does
+ * not recognize are kept in a small side table (up to 251 distinct values; beyond that
+ * they read back as {@code null}).
+ * Addresses are normalized with {@link EmailNormalizer} and interned as UTF-8 into a
+ * single contiguous arena, indexed by an open-addressing hash table of row numbers.
+ * Ten million results take roughly 25 bytes per row plus the address bytes, versus
+ * several hundred bytes per {@link BulkResultItem}.
+ *
+ * <p>The arena can live off-heap ({@link #offHeap(int)}), which keeps the bulk of the
+ * footprint out of the garbage-collected heap. Adding an address that is already
+ * present overwrites its row. Not thread-safe.
+ */
+public final class VerificationResultStore {
+    private static final float LOAD_FACTOR = 0.6f;
+    private static final VerificationStatus[] STATUSES = VerificationStatus.values();
+    private static final int FLAG_COUNT = 9;
+    private static final int FLAG_MASK = (1 << FLAG_COUNT) - 1;
+    private static final int HAS_RESULT = 1 << 15;
+    private static final int OTHER = VerificationStatus.OTHER.ordinal();
+    private static final int MAX_OTHER_STATUSES = 256 - STATUSES.length;
+
+    private final ByteArena arena;
+
+    private byte[] statuses;
+    private float[] scores;
+    private short[] flags;
+    private int[] offsets;
+    private int[] hashes;
+    private int size;
+
+    // Open-addressing index of row + 1; zero marks an empty slot.
+    private int[] table;
+    private int mask;
+
+    // Unrecognized status strings; status code STATUSES.length + i refers to entry i.
+    private final List<String> otherStatuses = new ArrayList<>();
+    private final Map<String, Integer> otherStatusCodes = new HashMap<>();
+
+    private final long[] statusCounts = new long[STATUSES.length];
+    private final long[] flagCounts = new long[FLAG_COUNT];
+
+    private VerificationResultStore(int expectedSize, ByteArena arena) {
+        int capacity = Math.max(16, expectedSize);
+        this.arena = arena;
+        this.statuses = new byte[capacity];
+        this.scores = new float[capacity];
+        this.flags = new short[capacity];
+        this.offsets = new int[capacity + 1];
+        this.hashes = new int[capacity];
+        int tableSize = Integer.highestOneBit(Math.max(32, (int) (capacity / LOAD_FACTOR)) - 1) << 1;
+        this.table = new int[tableSize];
+        this.mask = tableSize - 1;
+    }
+
+    /**
+     * Store with all columns and the address arena on the Java heap.
+     */
+    public static VerificationResultStore onHeap(int expectedSize) {
+        return new VerificationResultStore(expectedSize, new ByteArena.Heap(arenaCapacity(expectedSize)));
+    }
+
+    /**
+     * Store whose address arena is a direct (off-heap) buffer.
+     */
+    public static VerificationResultStore offHeap(int expectedSize) {
+        return new VerificationResultStore(expectedSize, new ByteArena.Direct(arenaCapacity(expectedSize)));
+    }
+
+    private static int arenaCapacity(int expectedSize) {
+        return (int) Math.min(ByteArena.MAX_CAPACITY, Math.max(0, expectedSize) * 24L);
+    }
+
+    /**
+     * Add or overwrite a bulk result. Returns its row.
+     */
+    public int add(BulkResultItem item) {
+        return put(item.email(), item.status(), item.score(), item.result());
+    }
+
+    /**
+     * Add or overwrite a single verification result. Returns its row.
+     */
+    public int add(VerifyResponse response) {
+        return put(response.email(), response.status(), response.score(), response.result());
+    }
+
+    public void addAll(Iterable<BulkResultItem> items) {
+        for (BulkResultItem item : items) {
+            add(item);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Row holding {@code email}, or {@code -1} if absent.
+     */
+    public int find(String email) {
+        String canonical = EmailNormalizer.normalize(email);
+        if (canonical == null) {
+            return -1;
+        }
+        byte[] bytes = canonical.getBytes(StandardCharsets.UTF_8);
+        return lookup(bytes, (int) EmailNormalizer.fingerprint(canonical));
+    }
+
+    public boolean contains(String email) {
+        return find(email) >= 0;
+    }
+
+    public String email(int row) {
+        checkRow(row);
+        int length = offsets[row + 1] - offsets[row];
+        byte[] bytes = new byte[length];
+        arena.copy(offsets[row], bytes, length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public VerificationStatus status(int row) {
+        checkRow(row);
+        return STATUSES[statusOrdinal(statuses[row])];
+    }
+
+    /**
+     * Status of {@code row} as sent by the API, including values this SDK does not know.
+     */
+    public String statusValue(int row) {
+        checkRow(row);
+        int code = statuses[row] & 0xff;
+        if (code >= STATUSES.length) {
+            return otherStatuses.get(code - STATUSES.length);
+        }
+        return STATUSES[code].value();
+    }
+
+    public float score(int row) {
+        checkRow(row);
+        return scores[row];
+    }
+
+    /**
+     * Packed flags of {@code row}, using the {@link VerificationResult} flag constants.
+     */
+    public int flags(int row) {
+        checkRow(row);
+        return flags[row] & FLAG_MASK;
+    }
+
+    /**
+     * Whether {@code row} was added with a result, as opposed to a {@code null} one.
+     */
+    public boolean hasResult(int row) {
+        checkRow(row);
+        return (flags[row] & HAS_RESULT) != 0;
+    }
+
+    public boolean hasFlags(int row, int mask) {
+        return (flags(row) & mask) == mask;
+    }
+
+    /**
+     * Result of {@code row}, or {@code null} if it was added without one.
+     */
+    public VerificationResult result(int row) {
+        return hasResult(row) ? VerificationResult.fromFlags(flags(row)) : null;
+    }
+
+    /**
+     * Materialize {@code row} as a {@link BulkResultItem}.
+     */
+    public BulkResultItem get(int row) {
+        return new BulkResultItem(email(row), statusValue(row), result(row), scores[row]);
+    }
+
+    /**
+     * Number of rows with {@code status}.
+     */
+    public long count(VerificationStatus status) {
+        return statusCounts[status.ordinal()];
+    }
+
+    /**
+     * Number of rows with the single flag {@code flag} set.
+     */
+    public long countWithFlag(int flag) {
+        if (Integer.bitCount(flag) != 1 || flag >= 1 << FLAG_COUNT) {
+            throw new IllegalArgumentException("Expected a single VerificationResult flag");
+        }
+        return flagCounts[Integer.numberOfTrailingZeros(flag)];
+    }
+
+    /**
+     * Number of rows matching the filter.
+     */
+    public long count(VerificationStatus status, int requiredFlags, int excludedFlags) {
+        long[] count = new long[1];
+        forEach(status, requiredFlags, excludedFlags, row -> count[0]++);
+        return count[0];
+    }
+
+    /**
+     * Visit rows whose status equals {@code status} (any status if {@code null}), that
+     * have every bit of {@code requiredFlags} set and none of {@code excludedFlags}.
+     */
+    public void forEach(VerificationStatus status, int requiredFlags, int excludedFlags, IntConsumer rowConsumer) {
+        int statusCode = status != null ? status.ordinal() : -1;
+        for (int row = 0; row < size; row++) {
+            if (statusCode >= 0 && statusOrdinal(statuses[row]) != statusCode) {
+                continue;
+            }
+            int f = flags[row] & FLAG_MASK;
+            if ((f & requiredFlags) == requiredFlags && (f & excludedFlags) == 0) {
+                rowConsumer.accept(row);
+            }
+        }
+    }
+
+    /**
+     * Approximate bytes held by the columns, index and arena.
+     */
+    public long memoryFootprint() {
+        long columns = statuses.length
+            + 4L * scores.length
+            + 2L * flags.length
+            + 4L * offsets.length
+            + 4L * hashes.length
+            + 4L * table.length;
+        return columns + arena.capacityBytes();
+    }
+
+    private int put(String email, String status, double score, VerificationResult result) {
+        String canonical = EmailNormalizer.normalize(email);
+        if (canonical == null) {
+            throw new IllegalArgumentException("Email is required");
+        }
+        byte[] bytes = canonical.getBytes(StandardCharsets.UTF_8);
+        int hash = (int) EmailNormalizer.fingerprint(canonical);
+        int row = lookup(bytes, hash);
+        if (row >= 0) {
+            count(row, -1);
+        } else {
+            row = append(bytes, hash);
+        }
+
+        statuses[row] = (byte) statusCode(status);
+        scores[row] = (float) score;
+        flags[row] = (short) (result != null ? result.flags() | HAS_RESULT : 0);
+        count(row, 1);
+        return row;
+    }
+
+    private int statusCode(String status) {
+        int ordinal = VerificationStatus.fromValue(status).ordinal();
+        if (ordinal != OTHER || status == null) {
+            return ordinal;
+        }
+        Integer code = otherStatusCodes.get(status);
+        if (code == null) {
+            if (otherStatuses.size() == MAX_OTHER_STATUSES) {
+                return OTHER;
+            }
+            code = STATUSES.length + otherStatuses.size();
+            otherStatuses.add(status);
+            otherStatusCodes.put(status, code);
+        }
+        return code;
+    }
+
+    private static int statusOrdinal(byte code) {
+        return Math.min(code & 0xff, OTHER);
+    }
+
+    private int lookup(byte[] bytes, int hash) {
+        int i = hash & mask;
+        while (true) {
+            int entry = table[i];
+            if (entry == 0) {
+                return -1;
+            }
+            int row = entry - 1;
+            if (hashes[row] == hash && arena.matches(offsets[row], offsets[row + 1] - offsets[row], bytes)) {
+                return row;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    private int append(byte[] bytes, int hash) {
+        int row = size;
+        if (row == statuses.length) {
+            int capacity = ByteArena.grow(row, row + 1);
+            statuses = Arrays.copyOf(statuses, capacity);
+            scores = Arrays.copyOf(scores, capacity);
+            flags = Arrays.copyOf(flags, capacity);
+            offsets = Arrays.copyOf(offsets, capacity + 1);
+            hashes = Arrays.copyOf(hashes, capacity);
+        }
+        arena.append(bytes);
+        offsets[row + 1] = arena.size();
+        hashes[row] = hash;
+        size++;
+
+        if (size > table.length * LOAD_FACTOR) {
+            rehash(table.length << 1);
+        } else {
+            insert(table, mask, row);
+        }
+        return row;
+    }
+
+    private void rehash(int tableSize) {
+        int[] next = new int[tableSize];
+        int nextMask = tableSize - 1;
+        for (int row = 0; row < size; row++) {
+            insert(next, nextMask, row);
+        }
+        table = next;
+        mask = nextMask;
+    }
+
+    private void insert(int[] target, int targetMask, int row) {
+        int i = hashes[row] & targetMask;
+        while (target[i] != 0) {
+            i = (i + 1) & targetMask;
+        }
+        target[i] = row + 1;
+    }
+
+    private void count(int row, int delta) {
+        statusCounts[statusOrdinal(statuses[row])] += delta;
+        int f = flags[row] & FLAG_MASK;
+        while (f != 0) {
+            flagCounts[Integer.numberOfTrailingZeros(f)] += delta;
+            f &= f - 1;
+        }
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("row " + row + " out of range [0, " + size + ")");
+        }
+    }
+}
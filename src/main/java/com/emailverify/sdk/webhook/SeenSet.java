@@ -0,0 +1,98 @@
+package com.emailverify.sdk.webhook;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded set of recently seen event IDs. Entries expire after {@code windowNanos} and the
+ * oldest are evicted once a stripe is full. Keys are spread over independently locked
+ * stripes so concurrent deliveries rarely contend.
+ */
+final class SeenSet {
+    private final Stripe[] stripes;
+    private final long windowNanos;
+
+    SeenSet(int capacity, int stripeCount, long windowNanos) {
+        this.stripes = new Stripe[stripeCount];
+        int perStripe = Math.max(1, capacity / stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+        this.windowNanos = windowNanos;
+    }
+
+    /**
+     * Record {@code key}; returns false if it was already seen within the window.
+     */
+    boolean add(String key, long nowNanos) {
+        Stripe stripe = stripeFor(key);
+        stripe.lock.lock();
+        try {
+            stripe.expire(nowNanos);
+            Long seenAt = stripe.entries.get(key);
+            if (seenAt != null) {
+                return false;
+            }
+            stripe.entries.put(key, nowNanos);
+            return true;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Forget {@code key}, so a later delivery of the same event is accepted.
+     */
+    void remove(String key) {
+        Stripe stripe = stripeFor(key);
+        stripe.lock.lock();
+        try {
+            stripe.entries.remove(key);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.entries.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripeFor(String key) {
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        return stripes[Math.floorMod(h, stripes.length)];
+    }
+
+    private final class Stripe {
+        final ReentrantLock lock = new ReentrantLock();
+        final LinkedHashMap<String, Long> entries;
+
+        Stripe(int capacity) {
+            this.entries = new LinkedHashMap<>(16, 0.75f) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        // Insertion order equals time order, so expired entries are always at the head.
+        void expire(long nowNanos) {
+            Iterator<Long> it = entries.values().iterator();
+            while (it.hasNext() && nowNanos - it.next() > windowNanos) {
+                it.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,500 @@
+package com.emailverify.sdk.webhook;
+
+import com.emailverify.sdk.EmailVerifyClient;
+import com.emailverify.sdk.codec.JsonCodec;
+import com.emailverify.sdk.codec.StreamingJsonCodec;
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * Receives webhook deliveries, verifies their signatures, drops duplicates and hands
+ * accepted events to handlers asynchronously. Events of the same bulk job are delivered
+ * one at a time in {@link WebhookEvent#sequence() sequence} (or {@code created_at})
+ * order; an event older than one already delivered for its job is dropped as stale.
+ * Sequence numbers are only compared with sequence numbers and timestamps with
+ * timestamps, so events lacking a common key are delivered in arrival order.
+ *
+ * <p>Call {@link #handle(String, String)} from your HTTP endpoint with the raw body and
+ * {@code X-EmailVerify-Signature} header and answer with the returned
+ * {@link Outcome#statusCode()}. When the pending-event limit is reached the outcome is
+ * {@link Outcome#BUSY} (503) so the sender retries later.
+ *
+ * <p>Handlers run on virtual threads when the runtime provides them and on a fixed pool
+ * otherwise; either way at most {@code maxConcurrency} run at once.
+ */
+public final class WebhookDispatcher implements AutoCloseable {
+    private static final Type EVENT_TYPE = new TypeReference<Map<String, Object>>() {}.getType();
+
+    /**
+     * Result of {@link #handle(String, String)}.
+     */
+    public enum Outcome {
+        /** Queued for dispatch. */
+        ACCEPTED(202),
+        /** Already seen within the dedupe window; nothing to do. */
+        DUPLICATE(200),
+        /** Older than an event already delivered for the same job. */
+        STALE(200),
+        /** Signature missing or wrong. */
+        INVALID_SIGNATURE(401),
+        /** Body is not a webhook event. */
+        MALFORMED(400),
+        /** Too many events pending; the sender should retry later. */
+        BUSY(503);
+
+        private final int statusCode;
+
+        Outcome(int statusCode) {
+            this.statusCode = statusCode;
+        }
+
+        /**
+         * HTTP status to answer the delivery with.
+         */
+        public int statusCode() {
+            return statusCode;
+        }
+    }
+
+    private final String secret;
+    private final JsonCodec codec;
+    private final Map<String, List<WebhookHandler>> handlers;
+    private final List<WebhookHandler> anyHandlers;
+    private final BiConsumer<WebhookEvent, Exception> errorHandler;
+    private final SeenSet seen;
+    private final int maxPending;
+    private final int maxTrackedJobs;
+    private final ExecutorService executor;
+    private final Semaphore running;
+
+    private final AtomicInteger pending = new AtomicInteger();
+    // Access-ordered so idle jobs are evicted least-recently-used first. Guarded by itself.
+    private final LinkedHashMap<String, JobQueue> jobs = new LinkedHashMap<>(16, 0.75f, true);
+
+    private WebhookDispatcher(Builder builder) {
+        this.secret = builder.secret;
+        this.codec = builder.codec != null ? builder.codec : new StreamingJsonCodec();
+        this.handlers = new HashMap<>();
+        builder.handlers.forEach((type, list) -> handlers.put(type, List.copyOf(list)));
+        this.anyHandlers = List.copyOf(builder.anyHandlers);
+        this.errorHandler = builder.errorHandler;
+        this.seen = new SeenSet(builder.maxTrackedEvents, builder.stripes, builder.dedupeWindow.toNanos());
+        this.maxPending = builder.maxPending;
+        this.maxTrackedJobs = builder.maxTrackedJobs;
+
+        ExecutorService virtual = newVirtualThreadExecutor();
+        if (virtual != null) {
+            this.executor = virtual;
+            this.running = new Semaphore(builder.maxConcurrency);
+        } else {
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(builder.maxConcurrency, builder.maxConcurrency,
+                30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+                    Thread t = new Thread(r, "emailverify-webhook");
+                    t.setDaemon(true);
+                    return t;
+                });
+            pool.allowCoreThreadTimeOut(true);
+            this.executor = pool;
+            this.running = null;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Verify, deduplicate and queue one delivery.
+     */
+    public Outcome handle(String body, String signature) {
+        if (secret != null && (signature == null || body == null
+                || !EmailVerifyClient.verifyWebhookSignature(body, signature, secret))) {
+            return Outcome.INVALID_SIGNATURE;
+        }
+        WebhookEvent event = parse(body);
+        if (event == null) {
+            return Outcome.MALFORMED;
+        }
+        if (!seen.add(event.id(), System.nanoTime())) {
+            return Outcome.DUPLICATE;
+        }
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            // Not processed, so a redelivery must not count as a duplicate.
+            seen.remove(event.id());
+            return Outcome.BUSY;
+        }
+
+        try {
+            return event.jobId() != null ? enqueueForJob(event) : submit(() -> dispatch(event));
+        } catch (RejectedExecutionException e) {
+            pending.decrementAndGet();
+            seen.remove(event.id());
+            return Outcome.BUSY;
+        }
+    }
+
+    /**
+     * Events accepted but not yet handled.
+     */
+    public int pending() {
+        return pending.get();
+    }
+
+    /**
+     * Stop accepting events and wait up to {@code timeout} for queued ones to be handled.
+     */
+    public boolean close(Duration timeout) throws InterruptedException {
+        executor.shutdown();
+        return executor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stop accepting events, waiting up to 30 seconds for queued ones.
+     */
+    @Override
+    public void close() {
+        try {
+            close(Duration.ofSeconds(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Outcome enqueueForJob(WebhookEvent event) {
+        JobQueue queue;
+        boolean start;
+        synchronized (jobs) {
+            queue = jobs.computeIfAbsent(event.jobId(), id -> new JobQueue());
+            if (queue.isStale(event)) {
+                pending.decrementAndGet();
+                return Outcome.STALE;
+            }
+            queue.add(event);
+            start = !queue.draining;
+            queue.draining = true;
+            evictIdleJobs();
+        }
+        if (start) {
+            try {
+                submit(() -> drain(queue));
+            } catch (RejectedExecutionException e) {
+                synchronized (jobs) {
+                    queue.events.remove(event);
+                    queue.draining = false;
+                }
+                throw e;
+            }
+        }
+        return Outcome.ACCEPTED;
+    }
+
+    private void drain(JobQueue queue) {
+        while (true) {
+            WebhookEvent event;
+            synchronized (jobs) {
+                event = queue.poll();
+                if (event == null) {
+                    queue.draining = false;
+                    return;
+                }
+                if (queue.isStale(event)) {
+                    pending.decrementAndGet();
+                    continue;
+                }
+                queue.delivered(event);
+            }
+            dispatch(event);
+        }
+    }
+
+    private void evictIdleJobs() {
+        var it = jobs.values().iterator();
+        while (jobs.size() > maxTrackedJobs && it.hasNext()) {
+            JobQueue queue = it.next();
+            if (!queue.draining && queue.events.isEmpty()) {
+                it.remove();
+            }
+        }
+    }
+
+    private Outcome submit(Runnable task) {
+        executor.execute(() -> {
+            if (running == null) {
+                task.run();
+                return;
+            }
+            running.acquireUninterruptibly();
+            try {
+                task.run();
+            } finally {
+                running.release();
+            }
+        });
+        return Outcome.ACCEPTED;
+    }
+
+    private void dispatch(WebhookEvent event) {
+        try {
+            for (WebhookHandler handler : handlers.getOrDefault(event.type(), List.of())) {
+                invoke(handler, event);
+            }
+            for (WebhookHandler handler : anyHandlers) {
+                invoke(handler, event);
+            }
+        } finally {
+            pending.decrementAndGet();
+        }
+    }
+
+    private void invoke(WebhookHandler handler, WebhookEvent event) {
+        try {
+            handler.handle(event);
+        } catch (Exception e) {
+            if (errorHandler != null) {
+                errorHandler.accept(event, e);
+            }
+        }
+    }
+
+    private WebhookEvent parse(String body) {
+        if (body == null) {
+            return null;
+        }
+        Map<String, Object> json;
+        try {
+            json = codec.decode(body.getBytes(StandardCharsets.UTF_8), EVENT_TYPE);
+        } catch (Exception e) {
+            return null;
+        }
+        if (json == null || !(json.get("event") instanceof String type)) {
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, Object> data = json.get("data") instanceof Map<?, ?> map ? (Map<String, Object>) map : Map.of();
+        String id = json.get("id") instanceof String s ? s : digest(body);
+        String jobId = data.get("job_id") instanceof String s ? s : null;
+        long sequence = json.get("sequence") instanceof Number n ? n.longValue() : -1;
+        Instant createdAt = null;
+        if (json.get("created_at") instanceof String s) {
+            try {
+                createdAt = Instant.parse(s);
+            } catch (DateTimeParseException e) {
+                // Leave unordered by time.
+            }
+        }
+        return new WebhookEvent(id, type, jobId, sequence, createdAt, data, body);
+    }
+
+    private static String digest(String body) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * {@code Executors.newVirtualThreadPerTaskExecutor()} when running on a JDK that has
+     * it; the SDK itself targets Java 17.
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static final class JobQueue {
+        // Arrival order, except that an event moves ahead of queued events it precedes.
+        // Events without a comparable key keep their place.
+        final List<WebhookEvent> events = new ArrayList<>();
+        boolean draining;
+        long lastSequence = -1;
+        Instant lastCreatedAt;
+
+        void add(WebhookEvent event) {
+            int i = events.size();
+            while (i > 0 && event.precedes(events.get(i - 1))) {
+                i--;
+            }
+            events.add(i, event);
+        }
+
+        WebhookEvent poll() {
+            return events.isEmpty() ? null : events.remove(0);
+        }
+
+        /**
+         * Older than a delivered event, judged by the sequence when both carry one and
+         * otherwise by the creation time when both carry one.
+         */
+        boolean isStale(WebhookEvent event) {
+            if (event.sequence() >= 0 && lastSequence >= 0) {
+                return event.sequence() < lastSequence;
+            }
+            return event.createdAt() != null && lastCreatedAt != null
+                && event.createdAt().isBefore(lastCreatedAt);
+        }
+
+        void delivered(WebhookEvent event) {
+            lastSequence = Math.max(lastSequence, event.sequence());
+            if (event.createdAt() != null && (lastCreatedAt == null || event.createdAt().isAfter(lastCreatedAt))) {
+                lastCreatedAt = event.createdAt();
+            }
+        }
+    }
+
+    public static class Builder {
+        private String secret;
+        private boolean allowUnsigned;
+        private JsonCodec codec;
+        private final Map<String, List<WebhookHandler>> handlers = new HashMap<>();
+        private final List<WebhookHandler> anyHandlers = new ArrayList<>();
+        private BiConsumer<WebhookEvent, Exception> errorHandler;
+        private Duration dedupeWindow = Duration.ofHours(24);
+        private int maxTrackedEvents = 100_000;
+        private int maxTrackedJobs = 10_000;
+        private int stripes = 16;
+        private int maxConcurrency = 16;
+        private int maxPending = 1000;
+
+        private Builder() {
+        }
+
+        /**
+         * Webhook secret used to check the {@code X-EmailVerify-Signature} header.
+         */
+        public Builder secret(String secret) {
+            this.secret = secret;
+            return this;
+        }
+
+        /**
+         * Accept deliveries without checking signatures, e.g. for a per-job
+         * {@code webhook_url} that is not signed. Off by default.
+         */
+        public Builder allowUnsigned(boolean allowUnsigned) {
+            this.allowUnsigned = allowUnsigned;
+            return this;
+        }
+
+        public Builder codec(JsonCodec codec) {
+            this.codec = codec;
+            return this;
+        }
+
+        /**
+         * Handle events of one type, e.g. {@code bulk.completed}.
+         */
+        public Builder on(String eventType, WebhookHandler handler) {
+            handlers.computeIfAbsent(eventType, type -> new ArrayList<>()).add(handler);
+            return this;
+        }
+
+        /**
+         * Handle every event, after any type-specific handlers.
+         */
+        public Builder onAny(WebhookHandler handler) {
+            anyHandlers.add(handler);
+            return this;
+        }
+
+        /**
+         * Called when a handler throws. Failed events are not redelivered.
+         */
+        public Builder onError(BiConsumer<WebhookEvent, Exception> errorHandler) {
+            this.errorHandler = errorHandler;
+            return this;
+        }
+
+        /**
+         * How long an event ID is remembered for deduplication (default: 24 hours).
+         */
+        public Builder dedupeWindow(Duration dedupeWindow) {
+            this.dedupeWindow = dedupeWindow;
+            return this;
+        }
+
+        /**
+         * Upper bound on remembered event IDs (default: 100,000).
+         */
+        public Builder maxTrackedEvents(int maxTrackedEvents) {
+            this.maxTrackedEvents = maxTrackedEvents;
+            return this;
+        }
+
+        /**
+         * Upper bound on jobs whose last delivered position is remembered (default: 10,000).
+         */
+        public Builder maxTrackedJobs(int maxTrackedJobs) {
+            this.maxTrackedJobs = maxTrackedJobs;
+            return this;
+        }
+
+        /**
+         * Number of independently locked segments of the dedupe set (default: 16).
+         */
+        public Builder stripes(int stripes) {
+            this.stripes = stripes;
+            return this;
+        }
+
+        /**
+         * Maximum handlers running at once (default: 16).
+         */
+        public Builder maxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Maximum accepted events waiting for or in dispatch before deliveries are
+         * answered with 503 (default: 1000).
+         */
+        public Builder maxPending(int maxPending) {
+            this.maxPending = maxPending;
+            return this;
+        }
+
+        public WebhookDispatcher build() {
+            if (secret == null && !allowUnsigned) {
+                throw new IllegalArgumentException("Webhook secret is required unless allowUnsigned is set");
+            }
+            if (dedupeWindow == null || dedupeWindow.isNegative() || dedupeWindow.isZero()) {
+                throw new IllegalArgumentException("dedupeWindow must be positive");
+            }
+            if (maxTrackedEvents < 1 || maxTrackedJobs < 1 || stripes < 1) {
+                throw new IllegalArgumentException("maxTrackedEvents, maxTrackedJobs and stripes must be at least 1");
+            }
+            if (maxConcurrency < 1 || maxPending < 1) {
+                throw new IllegalArgumentException("maxConcurrency and maxPending must be at least 1");
+            }
+            return new WebhookDispatcher(this);
+        }
+    }
+}
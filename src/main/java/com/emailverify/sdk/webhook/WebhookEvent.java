@@ -0,0 +1,40 @@
+package com.emailverify.sdk.webhook;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * A parsed webhook delivery.
+ *
+ * @param id        the event's {@code id}, or a digest of the body when the sender omits it
+ * @param type      the {@code event} field, e.g. {@code bulk.completed}
+ * @param jobId     {@code data.job_id} for bulk events, else null
+ * @param sequence  the {@code sequence} field, or -1 when absent
+ * @param createdAt the {@code created_at} field, or null when absent or malformed
+ * @param data      the {@code data} object
+ * @param body      the raw body as received
+ */
+public record WebhookEvent(
+    String id,
+    String type,
+    String jobId,
+    long sequence,
+    Instant createdAt,
+    Map<String, Object> data,
+    String body
+) {
+    /**
+     * Whether this event comes strictly before {@code other} of the same job. Sequence
+     * numbers are compared only with sequence numbers and creation times only with creation
+     * times; events sharing neither key are unordered and this returns false.
+     */
+    boolean precedes(WebhookEvent other) {
+        if (sequence >= 0 && other.sequence >= 0) {
+            return sequence < other.sequence;
+        }
+        if (createdAt != null && other.createdAt != null) {
+            return createdAt.isBefore(other.createdAt);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,9 @@
+package com.emailverify.sdk.webhook;
+
+/**
+ * Callback for webhook events accepted by a {@link WebhookDispatcher}.
+ */
+@FunctionalInterface
+public interface WebhookHandler {
+    void handle(WebhookEvent event) throws Exception;
+}
@@ -0,0 +1,122 @@
+package com.emailverify.sdk;
+
+import com.emailverify.sdk.codec.StreamingJsonCodec;
+import com.emailverify.sdk.exception.EmailVerifyException;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmailVerifyClientPoolTest {
+    private static final String VERIFY_BODY = """
+        {"email": "test@example.com", "status": "valid", "result": {}, "score": 0.95, "credits_used": 1}
+        """;
+
+    private MockWebServer mockServer;
+    private EmailVerifyClientPool pool;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockServer = new MockWebServer();
+        mockServer.start();
+        pool = EmailVerifyClientPool.builder()
+            .baseUrl(mockServer.url("/").toString())
+            .timeout(Duration.ofSeconds(10))
+            .retries(3)
+            .retryBudget(0)
+            .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        pool.close();
+        mockServer.shutdown();
+    }
+
+    @Test
+    void sharesTransportAcrossKeys() throws Exception {
+        mockServer.enqueue(new MockResponse().setBody(VERIFY_BODY));
+        mockServer.enqueue(new MockResponse().setBody(VERIFY_BODY));
+
+        EmailVerifyClient first = pool.client("key-a");
+        EmailVerifyClient second = pool.client("key-b");
+        assertSame(first, pool.client("key-a"));
+        assertNotSame(first, second);
+
+        first.verify("test@example.com");
+        second.verify("test@example.com");
+
+        assertEquals("key-a", mockServer.takeRequest().getHeader("EMAILVERIFY-API-KEY"));
+        assertEquals("key-b", mockServer.takeRequest().getHeader("EMAILVERIFY-API-KEY"));
+
+        // Closing a pooled client must leave the shared transport usable.
+        first.close();
+        mockServer.enqueue(new MockResponse().setBody(VERIFY_BODY));
+        assertDoesNotThrow(() -> second.verify("test@example.com"));
+    }
+
+    @Test
+    void tracksStatsPerTenant() throws Exception {
+        mockServer.enqueue(new MockResponse().setBody(VERIFY_BODY));
+        mockServer.enqueue(new MockResponse().setBody("""
+            {"available": 100, "used": 0, "total": 100, "plan": "Starter",
+             "rate_limit": {"requests_per_hour": 1000, "remaining": 999}}
+            """));
+        mockServer.enqueue(new MockResponse().setBody(VERIFY_BODY));
+
+        pool.client("key-a").verify("test@example.com");
+        pool.client("key-b").getCredits();
+        pool.client("key-b").verify("test@example.com");
+
+        assertEquals(1, pool.stats("key-a").creditsUsed());
+        assertEquals(-1, pool.stats("key-a").creditsAvailable());
+        assertEquals(99, pool.stats("key-b").creditsAvailable());
+        assertEquals(2, pool.stats("key-b").requests());
+        assertNull(pool.stats("key-c"));
+        assertEquals(2, pool.allStats().size());
+    }
+
+    @Test
+    void appliesPerTenantOverrides() throws Exception {
+        mockServer.enqueue(new MockResponse().setResponseCode(503));
+        mockServer.enqueue(new MockResponse().setResponseCode(503));
+        mockServer.enqueue(new MockResponse().setBody(VERIFY_BODY));
+
+        EmailVerifyClient strict = pool.client("key-strict", b -> b.retries(1));
+        assertThrows(EmailVerifyException.class, () -> strict.verify("test@example.com"));
+        assertEquals(1, mockServer.getRequestCount());
+        assertEquals(0, pool.stats("key-strict").retries());
+
+        // Other tenants keep the pool default of three attempts.
+        pool.client("key-default").verify("test@example.com");
+        assertEquals(1, pool.stats("key-default").retries());
+        assertSame(strict, pool.client("key-strict"));
+    }
+
+    @Test
+    void buildsClientsOutsideTheMap() throws Exception {
+        mockServer.enqueue(new MockResponse().setBody(VERIFY_BODY));
+
+        // An override that itself asks the pool for another tenant's client.
+        EmailVerifyClient outer = pool.client("key-outer", b -> pool.client("key-inner"));
+        outer.verify("test@example.com");
+
+        assertEquals(2, pool.size());
+        assertSame(outer, pool.client("key-outer", b -> fail("overrides run only on creation")));
+    }
+
+    @Test
+    void rejectsOverridesOfPoolOwnedSettings() {
+        assertThrows(IllegalArgumentException.class,
+            () -> pool.client("key-timeout", b -> b.timeout(Duration.ofSeconds(1))));
+        assertThrows(IllegalArgumentException.class,
+            () -> pool.client("key-codec", b -> b.codec(new StreamingJsonCodec())));
+        assertEquals(0, pool.size());
+    }
+}
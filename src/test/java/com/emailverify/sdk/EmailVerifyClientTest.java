@@ -1,5 +1,7 @@
 package com.emailverify.sdk;
 
+import com.emailverify.sdk.codec.JsonCodec;
+import com.emailverify.sdk.codec.StreamingJsonCodec;
 import com.emailverify.sdk.exception.*;
 import com.emailverify.sdk.model.*;
 import okhttp3.mockwebserver.MockResponse;
@@ -8,8 +10,12 @@ import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.jupiter.api.*;
 
 import java.io.IOException;
+import java.lang.reflect.Type;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -128,6 +134,55 @@ class EmailVerifyClientTest {
         assertTrue(body.contains("\"timeout\":5000"));
     }
 
+    @Test
+    void verifyWithDeadlinePropagatesRemainingBudget() throws Exception {
+        String responseBody = """
+            {"email": "test@example.com", "status": "valid", "result": {}, "score": 0.95, "credits_used": 1}
+            """;
+        mockServer.enqueue(new MockResponse().setBody(responseBody));
+        mockServer.enqueue(new MockResponse().setBody(responseBody));
+
+        client.verify("test@example.com", Duration.ofSeconds(2));
+        client.verify("test@example.com", false, 5000, Deadline.after(Duration.ofSeconds(1)));
+
+        for (long budget : new long[]{2000, 1000}) {
+            String body = mockServer.takeRequest().getBody().readUtf8();
+            int timeout = Integer.parseInt(body.replaceAll(".*\"timeout\":(\\d+).*", "$1"));
+            assertTrue(timeout > 0 && timeout < budget, "timeout " + timeout + " within " + budget);
+        }
+    }
+
+    @Test
+    void verifyDeadlineSkipsRetryThatCannotFinish() throws Exception {
+        mockServer.enqueue(new MockResponse().setResponseCode(503));
+        mockServer.enqueue(new MockResponse().setResponseCode(503));
+
+        try (var retrying = EmailVerifyClient.builder("test-api-key")
+                .baseUrl(mockServer.url("/").toString())
+                .retries(3)
+                .build()) {
+            long start = System.nanoTime();
+            var error = assertThrows(EmailVerifyException.class, () ->
+                retrying.verify("test@example.com", Duration.ofMillis(500)));
+            assertEquals(503, error.getStatusCode());
+            assertTrue(System.nanoTime() - start < Duration.ofMillis(500).toNanos());
+            assertEquals(1, mockServer.getRequestCount());
+            assertEquals(0, retrying.stats().retries());
+        }
+    }
+
+    @Test
+    void verifyDeadlineCapsSlowAttempt() {
+        mockServer.enqueue(new MockResponse()
+            .setBody("{}")
+            .setHeadersDelay(3, TimeUnit.SECONDS));
+
+        long start = System.nanoTime();
+        assertThrows(TimeoutException.class, () ->
+            client.verify("test@example.com", Duration.ofMillis(300)));
+        assertTrue(System.nanoTime() - start < Duration.ofSeconds(2).toNanos());
+    }
+
     @Test
     void verifyAuthenticationError() {
         String responseBody = """
@@ -310,6 +365,9 @@ class EmailVerifyClientTest {
         assertEquals("job_123", result.jobId());
         assertEquals(1, result.results().size());
         assertEquals("test@example.com", result.results().get(0).email());
+        assertTrue(result.results().get(0).result().deliverable());
+        assertFalse(result.results().get(0).result().smtpValid());
+        assertEquals(true, result.results().get(0).flagsMap().get("deliverable"));
 
         RecordedRequest request = mockServer.takeRequest();
         assertTrue(request.getPath().contains("limit=50"));
@@ -317,6 +375,25 @@ class EmailVerifyClientTest {
         assertTrue(request.getPath().contains("status=valid"));
     }
 
+    @Test
+    void getBulkJobResultsRawKeepsUnmodeledFields() throws Exception {
+        mockServer.enqueue(new MockResponse()
+            .setBody("""
+                {"job_id": "job_123", "total": 1, "limit": 50, "offset": 0, "results": [
+                    {"email": "test@example.com", "status": "valid", "score": 0.95,
+                     "result": {"deliverable": true, "mx_host": "mx.example.com"}}
+                ]}
+                """)
+            .setHeader("Content-Type", "application/json"));
+
+        Map<String, Object> raw = client.getBulkJobResultsRaw("job_123", 50, 0, null);
+
+        List<?> results = (List<?>) raw.get("results");
+        Map<?, ?> result = (Map<?, ?>) ((Map<?, ?>) results.get(0)).get("result");
+        assertEquals("mx.example.com", result.get("mx_host"));
+        assertEquals("/verify/bulk/job_123/results?limit=50&offset=0", mockServer.takeRequest().getPath());
+    }
+
     @Test
     void getCredits() throws Exception {
         String responseBody = """
@@ -425,6 +502,139 @@ class EmailVerifyClientTest {
 
         assertFalse(result);
     }
+
+    @Test
+    void priorityViewsShareSchedulerAndStats() throws Exception {
+        mockServer.enqueue(new MockResponse()
+            .setResponseCode(200)
+            .setBody("{\"email\":\"a@example.com\",\"status\":\"valid\",\"score\":0.9,\"credits_used\":1}"));
+
+        EmailVerifyClient interactive = client.withPriority(Priority.HIGH);
+        assertEquals(Priority.HIGH, interactive.priority());
+        assertSame(client, client.withPriority(Priority.NORMAL));
+
+        interactive.verify("a@example.com");
+        interactive.close();
+
+        assertEquals(1, client.laneStats(Priority.HIGH).granted());
+        assertEquals(0, client.laneStats(Priority.HIGH).inFlight());
+        assertEquals(0, client.laneStats(Priority.NORMAL).granted());
+        assertEquals(1, client.stats().requests());
+    }
+
+    @Test
+    void tryVerifyReturnsValueOnSuccess() {
+        mockServer.enqueue(new MockResponse()
+            .setResponseCode(200)
+            .setBody("{\"email\":\"a@example.com\",\"status\":\"valid\",\"score\":0.9,\"credits_used\":1}"));
+
+        Result<VerifyResponse, ApiError> result = client.tryVerify("a@example.com");
+
+        assertTrue(result.isOk());
+        assertEquals("valid", ((Result.Ok<VerifyResponse, ApiError>) result).value().status());
+        assertEquals(1, client.stats().creditsUsed());
+    }
+
+    @Test
+    void tryVerifyReturnsErrorInsteadOfThrowing() {
+        mockServer.enqueue(new MockResponse()
+            .setResponseCode(400)
+            .setBody("{\"error\":{\"code\":\"INVALID_REQUEST\",\"message\":\"Bad email\",\"details\":\"missing @\"}}"));
+
+        Result<VerifyResponse, ApiError> result = client.tryVerify("nope");
+
+        assertInstanceOf(Result.Err.class, result);
+        ApiError error = result.errorOrNull();
+        assertEquals("INVALID_REQUEST", error.code());
+        assertEquals(400, error.statusCode());
+        assertEquals("missing @", error.details());
+        assertFalse(error.isRetryable());
+        assertNull(result.orElse(null));
+        assertEquals(1, client.stats().failures());
+    }
+
+    @Test
+    void tryVerifySkipsCodecForNonJsonErrorBodies() throws IOException {
+        AtomicInteger decodes = new AtomicInteger();
+        JsonCodec streaming = new StreamingJsonCodec();
+        var counting = EmailVerifyClient.builder("test-api-key")
+            .baseUrl(mockServer.url("/").toString())
+            .retries(1)
+            .codec(new JsonCodec() {
+                @Override
+                public byte[] encode(Object value) throws IOException {
+                    return streaming.encode(value);
+                }
+
+                @Override
+                public <T> T decode(byte[] json, Type type) throws IOException {
+                    decodes.incrementAndGet();
+                    return streaming.decode(json, type);
+                }
+            })
+            .build();
+        mockServer.enqueue(new MockResponse()
+            .setResponseCode(502)
+            .setStatus("HTTP/1.1 502 Bad Gateway")
+            .setHeader("Content-Type", "text/html")
+            .setBody("<html><body>Bad Gateway</body></html>"));
+        mockServer.enqueue(new MockResponse().setResponseCode(503).setStatus("HTTP/1.1 503 Unavailable"));
+
+        ApiError html = counting.tryVerify("a@example.com").errorOrNull();
+        ApiError empty = counting.tryVerify("a@example.com").errorOrNull();
+        counting.close();
+
+        assertEquals("UNKNOWN_ERROR", html.code());
+        assertEquals("Bad Gateway", html.message());
+        assertEquals(502, html.statusCode());
+        assertEquals("Unavailable", empty.message());
+        assertEquals(503, empty.statusCode());
+        assertEquals(0, decodes.get());
+    }
+
+    @Test
+    void tryVerifyReportsNetworkErrors() throws IOException {
+        mockServer.shutdown();
+
+        ApiError error = client.tryVerify("a@example.com").errorOrNull();
+
+        assertEquals("NETWORK_ERROR", error.code());
+        assertTrue(error.isRetryable());
+    }
+
+    @Test
+    void stacklessExceptionsHaveNoStackTrace() {
+        var stackless = EmailVerifyClient.builder("test-api-key")
+            .baseUrl(mockServer.url("/").toString())
+            .stacklessExceptions(true)
+            .build();
+        mockServer.enqueue(new MockResponse()
+            .setResponseCode(404)
+            .setBody("{\"error\":{\"code\":\"NOT_FOUND\",\"message\":\"Job not found\"}}"));
+
+        NotFoundException e = assertThrows(NotFoundException.class, () -> stackless.getBulkJobStatus("missing"));
+        assertEquals(0, e.getStackTrace().length);
+        assertEquals("Job not found", e.getMessage());
+        stackless.close();
+    }
+
+    @Test
+    void reservedHighPriorityMustLeaveSharedSlots() {
+        assertThrows(IllegalArgumentException.class, () ->
+            EmailVerifyClient.builder("test-key").maxConcurrentRequests(2).reservedHighPriority(2).build());
+    }
+}
+
+class VerificationResultTest {
+    @Test
+    void flagsRoundTrip() {
+        var result = new VerificationResult(true, true, true, true, false, true, false, true, false);
+        int flags = result.flags();
+        assertEquals(VerificationResult.DELIVERABLE | VerificationResult.VALID_FORMAT
+            | VerificationResult.VALID_DOMAIN | VerificationResult.VALID_MX
+            | VerificationResult.ROLE | VerificationResult.FREE, flags);
+        assertEquals(result, VerificationResult.fromFlags(flags));
+    }
 }
 
 class ExceptionTest {
@@ -469,4 +679,24 @@ class ExceptionTest {
         assertEquals("TIMEOUT", error.getErrorCode());
         assertEquals("Request timed out", error.getMessage());
     }
+
+    @Test
+    void apiErrorMapsToTypedExceptions() {
+        assertInstanceOf(AuthenticationException.class, new ApiError("INVALID_API_KEY", "x", 401).toException());
+        assertInstanceOf(InsufficientCreditsException.class, new ApiError("INSUFFICIENT_CREDITS", "x", 403).toException());
+        assertInstanceOf(NotFoundException.class, new ApiError("NOT_FOUND", "x", 404).toException());
+        assertInstanceOf(TimeoutException.class, new ApiError("TIMEOUT", "x", 504).toException());
+
+        var rateLimit = (RateLimitException) new ApiError("RATE_LIMIT_EXCEEDED", "x", 429, null, 7).toException(true);
+        assertEquals(7, rateLimit.getRetryAfter());
+        assertEquals(0, rateLimit.getStackTrace().length);
+
+        var validation = (ValidationException) new ApiError("INVALID_REQUEST", "x", 400, "d", 0).toException();
+        assertEquals("d", validation.getDetails());
+        assertTrue(validation.getStackTrace().length > 0);
+
+        EmailVerifyException server = new ApiError("SERVER_ERROR", "x", 500).toException();
+        assertEquals(EmailVerifyException.class, server.getClass());
+        assertEquals("SERVER_ERROR", server.getErrorCode());
+    }
 }
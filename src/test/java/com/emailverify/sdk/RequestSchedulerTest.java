@@ -0,0 +1,111 @@
+package com.emailverify.sdk;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestSchedulerTest {
+    private static final int[] WEIGHTS = {4, 2, 1};
+
+    @Test
+    void reservedSlotsAreOnlyForHighPriority() throws InterruptedException {
+        var scheduler = new RequestScheduler(2, 1, null, WEIGHTS);
+        assertTrue(scheduler.acquire(Priority.LOW, 0));
+        assertFalse(scheduler.acquire(Priority.NORMAL, TimeUnit.MILLISECONDS.toNanos(20)));
+        assertTrue(scheduler.acquire(Priority.HIGH, 0));
+        assertEquals(1, scheduler.stats(Priority.HIGH).inFlight());
+
+        // With HIGH holding one slot, the only free slot is the reserved one.
+        scheduler.release(Priority.LOW);
+        assertFalse(scheduler.acquire(Priority.NORMAL, 0));
+        scheduler.release(Priority.HIGH);
+        assertTrue(scheduler.acquire(Priority.NORMAL, 0));
+    }
+
+    @Test
+    void sharesSlotsByWeight() throws InterruptedException {
+        var scheduler = new RequestScheduler(1, 0, null, WEIGHTS);
+        assertTrue(scheduler.acquire(Priority.NORMAL, -1));
+
+        List<Priority> order = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> threads = new ArrayList<>();
+        for (Priority priority : List.of(Priority.LOW, Priority.HIGH)) {
+            for (int i = 0; i < 6; i++) {
+                Thread thread = new Thread(() -> {
+                    try {
+                        scheduler.acquire(priority, -1);
+                        order.add(priority);
+                        scheduler.release(priority);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (scheduler.stats(Priority.LOW).queueDepth() + scheduler.stats(Priority.HIGH).queueDepth() < 12) {
+            assertTrue(System.nanoTime() < deadline, "waiters did not queue");
+            Thread.sleep(1);
+        }
+
+        scheduler.release(Priority.NORMAL);
+        for (Thread thread : threads) {
+            thread.join(5000);
+        }
+
+        assertEquals(12, order.size());
+        long highInFirstFive = order.subList(0, 5).stream().filter(p -> p == Priority.HIGH).count();
+        assertEquals(4, highInFirstFive, order.toString());
+        assertEquals(6, scheduler.stats(Priority.HIGH).granted());
+        assertEquals(0, scheduler.stats(Priority.LOW).queueDepth());
+        assertTrue(scheduler.stats(Priority.LOW).maxWait().toNanos() > 0);
+    }
+
+    @Test
+    void rateLimitTokensFollowLaneOrder() throws InterruptedException {
+        var scheduler = new RequestScheduler(Integer.MAX_VALUE, 0, new RateLimiter(100, 1), WEIGHTS);
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            assertTrue(scheduler.acquire(Priority.LOW, -1));
+        }
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 35);
+        assertFalse(scheduler.acquire(Priority.HIGH, 0));
+        assertEquals(5, scheduler.stats(Priority.LOW).inFlight());
+    }
+
+    @Test
+    void waiterBlockedOnCapacityWakesForRateLimitToken() throws InterruptedException {
+        var scheduler = new RequestScheduler(1, 0, new RateLimiter(1), WEIGHTS);
+        assertTrue(scheduler.acquire(Priority.NORMAL, -1));
+
+        var acquired = new CountDownLatch(1);
+        Thread waiter = new Thread(() -> {
+            try {
+                scheduler.acquire(Priority.NORMAL, -1);
+                acquired.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        waiter.setDaemon(true);
+        waiter.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (scheduler.stats(Priority.NORMAL).queueDepth() < 1) {
+            assertTrue(System.nanoTime() < deadline, "waiter did not queue");
+            Thread.sleep(1);
+        }
+
+        // The slot frees up before the next token is due, so the waiter must wake on its own.
+        scheduler.release(Priority.NORMAL);
+        assertTrue(acquired.await(3, TimeUnit.SECONDS), "waiter never woke for the token");
+        assertEquals(1, scheduler.stats(Priority.NORMAL).inFlight());
+    }
+}
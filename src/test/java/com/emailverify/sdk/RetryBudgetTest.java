@@ -0,0 +1,68 @@
+package com.emailverify.sdk;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryBudgetTest {
+    @Test
+    void allowsBurstThenEarnsRetriesFromRequests() {
+        var budget = new RetryBudget(0.5, 2);
+        assertTrue(budget.tryWithdraw());
+        assertTrue(budget.tryWithdraw());
+        assertFalse(budget.tryWithdraw());
+
+        budget.deposit();
+        assertFalse(budget.tryWithdraw());
+        budget.deposit();
+        assertTrue(budget.tryWithdraw());
+    }
+
+    @Test
+    void retriesTrackRatioOfRequests() {
+        var budget = new RetryBudget(0.1, 10);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(budget.tryWithdraw());
+        }
+
+        int allowed = 0;
+        for (int i = 0; i < 1000; i++) {
+            budget.deposit();
+            if (budget.tryWithdraw()) {
+                allowed++;
+            }
+        }
+        // Floating-point accumulation may leave the last token a hair short.
+        assertTrue(allowed == 99 || allowed == 100, "allowed " + allowed);
+    }
+
+    @Test
+    void burstIsTheFloorWithoutRequests() {
+        var budget = new RetryBudget(0, 3);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(budget.tryWithdraw());
+        }
+        assertFalse(budget.tryWithdraw());
+
+        // Denied withdrawals do not push the balance below zero, and a zero ratio never refills.
+        for (int i = 0; i < 100; i++) {
+            budget.deposit();
+            assertFalse(budget.tryWithdraw());
+        }
+    }
+
+    @Test
+    void capsBalance() {
+        var budget = new RetryBudget(1, 1);
+        budget.deposit();
+        budget.deposit();
+        assertTrue(budget.tryWithdraw());
+        assertFalse(budget.tryWithdraw());
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new RetryBudget(-0.1, 10));
+        assertThrows(IllegalArgumentException.class, () -> new RetryBudget(0.1, 0));
+    }
+}
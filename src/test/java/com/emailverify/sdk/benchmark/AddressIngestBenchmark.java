@@ -0,0 +1,96 @@
+package com.emailverify.sdk.benchmark;
+
+import com.emailverify.sdk.bulk.EmailNormalizer;
+import com.emailverify.sdk.bulk.MappedAddressFile;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reading a generated address file: {@code BufferedReader} into a {@code List<String>}
+ * (the usual approach) against {@link MappedAddressFile} visiting {@code CharSequence}
+ * views and building 10,000-address chunks.
+ *
+ * <p>The default file has 1M lines (~27 MB) so a run fits in CI; pass
+ * {@code -p lines=100000000} for the 100M-line (~2.7 GB) case.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class AddressIngestBenchmark {
+    @Param({"1000000"})
+    public long lines;
+
+    private Path file;
+    private MappedAddressFile source;
+
+    @Setup
+    public void setUp() throws Exception {
+        file = Files.createTempFile("emailverify-ingest", ".txt");
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (long i = 0; i < lines; i++) {
+                writer.write("user");
+                writer.write(Long.toString(i));
+                writer.write("@example");
+                writer.write(Long.toString(i % 1000));
+                writer.write(".com\n");
+            }
+        }
+        source = MappedAddressFile.builder(file).build();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public int bufferedReaderList() throws Exception {
+        List<String> emails = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty()) {
+                    emails.add(line);
+                }
+            }
+        }
+        return emails.size();
+    }
+
+    @Benchmark
+    public long mappedFingerprints() throws Exception {
+        LongAdder hash = new LongAdder();
+        source.forEach(email -> hash.add(EmailNormalizer.fingerprint(email)));
+        return hash.sum();
+    }
+
+    @Benchmark
+    public long mappedChunks() throws Exception {
+        LongAdder chunks = new LongAdder();
+        source.forEachChunk(10000, chunk -> chunks.increment());
+        return chunks.sum();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+            .include(AddressIngestBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+}
@@ -0,0 +1,46 @@
+package com.emailverify.sdk.benchmark;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Synthetic API payloads shared by the benchmarks.
+ */
+final class BenchmarkData {
+    private static final String[] STATUSES = {"valid", "invalid", "unknown", "accept_all"};
+
+    private BenchmarkData() {}
+
+    static byte[] bulkResultsJson(int count) {
+        StringBuilder json = new StringBuilder(count * 260);
+        json.append("{\"job_id\":\"job_bench\",\"total\":").append(count)
+            .append(",\"limit\":").append(count).append(",\"offset\":0,\"results\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            boolean valid = i % 4 == 0;
+            json.append("{\"email\":\"user").append(i).append("@example.com\",")
+                .append("\"status\":\"").append(STATUSES[i % STATUSES.length]).append("\",")
+                .append("\"result\":{")
+                .append("\"deliverable\":").append(valid).append(',')
+                .append("\"valid_format\":true,")
+                .append("\"valid_domain\":true,")
+                .append("\"valid_mx\":true,")
+                .append("\"disposable\":").append(i % 17 == 0).append(',')
+                .append("\"role\":").append(i % 11 == 0).append(',')
+                .append("\"catchall\":").append(i % 13 == 0).append(',')
+                .append("\"free\":").append(i % 3 == 0).append(',')
+                .append("\"smtp_valid\":").append(valid)
+                .append("},\"score\":0.").append(50 + i % 50).append('}');
+        }
+        json.append("]}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    static byte[] verifyJson(String email) {
+        return ("{\"email\":\"" + email + "\",\"status\":\"valid\",\"result\":{"
+            + "\"deliverable\":true,\"valid_format\":true,\"valid_domain\":true,\"valid_mx\":true,"
+            + "\"disposable\":false,\"role\":false,\"catchall\":false,\"free\":true,\"smtp_valid\":true},"
+            + "\"score\":0.95,\"reason\":null,\"credits_used\":1}").getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,73 @@
+package com.emailverify.sdk.benchmark;
+
+import com.emailverify.sdk.model.BulkResultsResponse;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Allocation cost of decoding a 10,000-item results page into the typed
+ * {@code BulkResultItem} versus the former {@code Map<String, Object>} form.
+ *
+ * <p>Run with {@code java -cp <test classpath> com.emailverify.sdk.benchmark.BulkResultDecodeBenchmark}
+ * and compare {@code gc.alloc.rate.norm} (bytes per 10,000 results).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkResultDecodeBenchmark {
+    private static final int RESULTS = 10_000;
+
+    public record MapBulkResultItem(
+        @JsonProperty("email") String email,
+        @JsonProperty("status") String status,
+        @JsonProperty("result") Map<String, Object> result,
+        @JsonProperty("score") double score
+    ) {}
+
+    public record MapBulkResultsResponse(
+        @JsonProperty("job_id") String jobId,
+        @JsonProperty("total") int total,
+        @JsonProperty("limit") int limit,
+        @JsonProperty("offset") int offset,
+        @JsonProperty("results") List<MapBulkResultItem> results
+    ) {}
+
+    private ObjectMapper objectMapper;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        payload = BenchmarkData.bulkResultsJson(RESULTS);
+    }
+
+    @Benchmark
+    public BulkResultsResponse typed() throws Exception {
+        return objectMapper.readValue(payload, BulkResultsResponse.class);
+    }
+
+    @Benchmark
+    public MapBulkResultsResponse map() throws Exception {
+        return objectMapper.readValue(payload, MapBulkResultsResponse.class);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+            .include(BulkResultDecodeBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+}
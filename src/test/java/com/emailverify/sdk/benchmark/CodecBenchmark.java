@@ -0,0 +1,58 @@
+package com.emailverify.sdk.benchmark;
+
+import com.emailverify.sdk.codec.DatabindJsonCodec;
+import com.emailverify.sdk.codec.JsonCodec;
+import com.emailverify.sdk.codec.StreamingJsonCodec;
+import com.emailverify.sdk.model.BulkResultsResponse;
+import com.emailverify.sdk.model.VerifyResponse;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Steady-state decode throughput of {@link StreamingJsonCodec} against
+ * {@link DatabindJsonCodec} for a single {@code /verify} response and a 100-item
+ * results page (the default page size).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+    @Param({"databind", "streaming"})
+    public String codecName;
+
+    private JsonCodec codec;
+    private byte[] verifyPayload;
+    private byte[] resultsPayload;
+
+    @Setup
+    public void setUp() {
+        codec = "streaming".equals(codecName) ? new StreamingJsonCodec() : new DatabindJsonCodec();
+        verifyPayload = BenchmarkData.verifyJson("user@example.com");
+        resultsPayload = BenchmarkData.bulkResultsJson(100);
+    }
+
+    @Benchmark
+    public VerifyResponse verifyResponse() throws Exception {
+        return codec.decode(verifyPayload, VerifyResponse.class);
+    }
+
+    @Benchmark
+    public BulkResultsResponse resultsPage() throws Exception {
+        return codec.decode(resultsPayload, BulkResultsResponse.class);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+            .include(CodecBenchmark.class.getSimpleName())
+            .include(CodecColdStartBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+}
@@ -0,0 +1,37 @@
+package com.emailverify.sdk.benchmark;
+
+import com.emailverify.sdk.codec.DatabindJsonCodec;
+import com.emailverify.sdk.codec.JsonCodec;
+import com.emailverify.sdk.codec.StreamingJsonCodec;
+import com.emailverify.sdk.model.VerifyResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to create a codec and decode the first {@code /verify} response in a fresh JVM,
+ * i.e. the warm-up cost paid by the first request of a newly started client.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class CodecColdStartBenchmark {
+    @Param({"databind", "streaming"})
+    public String codecName;
+
+    private byte[] verifyPayload;
+
+    @Setup
+    public void setUp() {
+        verifyPayload = BenchmarkData.verifyJson("user@example.com");
+    }
+
+    @Benchmark
+    public VerifyResponse firstDecode() throws Exception {
+        JsonCodec codec = "streaming".equals(codecName) ? new StreamingJsonCodec() : new DatabindJsonCodec();
+        return codec.decode(verifyPayload, VerifyResponse.class);
+    }
+}
@@ -0,0 +1,100 @@
+package com.emailverify.sdk.benchmark;
+
+import com.emailverify.sdk.EmailVerifyClient;
+import com.emailverify.sdk.Result;
+import com.emailverify.sdk.exception.ApiError;
+import com.emailverify.sdk.exception.EmailVerifyException;
+import com.emailverify.sdk.model.VerifyResponse;
+import com.emailverify.sdk.simulator.ApiSimulator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of error-heavy verification loops: nine in ten addresses are malformed and come
+ * back as 400s. Compares the throwing API with stack traces, the throwing API with
+ * {@code stacklessExceptions}, and {@code tryVerify}. {@code stackDepth} adds caller
+ * frames, since stack capture cost grows with the depth of the application's stack.
+ *
+ * <p>{@code materialize*} isolate the per-error cost without the HTTP round trip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorPathBenchmark {
+    @Param({"exceptions", "stackless", "result"})
+    public String api;
+
+    @Param({"0", "100"})
+    public int stackDepth;
+
+    private ApiSimulator simulator;
+    private EmailVerifyClient client;
+    private String[] emails;
+    private int next;
+    private ApiError error;
+
+    @Setup
+    public void setUp() throws Exception {
+        simulator = ApiSimulator.builder().credits(Long.MAX_VALUE / 2).build().start();
+        client = EmailVerifyClient.builder("bench-key")
+            .baseUrl(simulator.baseUrl())
+            .stacklessExceptions("stackless".equals(api))
+            .build();
+        emails = new String[100];
+        for (int i = 0; i < emails.length; i++) {
+            emails[i] = i % 10 == 0 ? "user" + i + "@example.com" : "not-an-address-" + i;
+        }
+        error = new ApiError("INVALID_EMAIL", "Invalid email format", 400);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        client.close();
+        simulator.close();
+    }
+
+    @Benchmark
+    public Object verify() {
+        String email = emails[next++ % emails.length];
+        return atDepth(stackDepth, () -> {
+            if ("result".equals(api)) {
+                Result<VerifyResponse, ApiError> result = client.tryVerify(email, false, null);
+                return result instanceof Result.Err<VerifyResponse, ApiError> err ? err.error().code() : result;
+            }
+            try {
+                return client.verify(email, false, null);
+            } catch (EmailVerifyException e) {
+                return e.getErrorCode();
+            }
+        });
+    }
+
+    @Benchmark
+    public Object materialize() {
+        return atDepth(stackDepth, () -> switch (api) {
+            case "exceptions" -> error.toException(false);
+            case "stackless" -> error.toException(true);
+            default -> error;
+        });
+    }
+
+    private interface Call {
+        Object run();
+    }
+
+    private static Object atDepth(int depth, Call call) {
+        return depth == 0 ? call.run() : atDepth(depth - 1, call);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+            .include(ErrorPathBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,67 @@
+package com.emailverify.sdk.benchmark;
+
+import com.emailverify.sdk.jfr.ApiRequestEvent;
+import jdk.jfr.Recording;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of {@link ApiRequestEvent} with no recording, with a recording that
+ * has the event disabled, and with it enabled, against not creating the event at all.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JfrEventOverheadBenchmark {
+    @Param({"none", "disabled", "enabled"})
+    public String recording;
+
+    private Recording active;
+    private int attempt;
+
+    @Setup
+    public void setUp() {
+        if (!"none".equals(recording)) {
+            active = new Recording();
+            if ("enabled".equals(recording)) {
+                active.enable(ApiRequestEvent.class);
+            } else {
+                active.disable(ApiRequestEvent.class);
+            }
+            active.start();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (active != null) {
+            active.close();
+        }
+    }
+
+    @Benchmark
+    public int baseline() {
+        return ++attempt;
+    }
+
+    @Benchmark
+    public int withEvent() {
+        ApiRequestEvent event = new ApiRequestEvent();
+        event.begin();
+        int value = ++attempt;
+        event.complete("POST", "/verify", 200, 64, 256, value, "NORMAL");
+        return value;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+            .include(JfrEventOverheadBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
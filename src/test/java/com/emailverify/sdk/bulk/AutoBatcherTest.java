@@ -0,0 +1,216 @@
+package com.emailverify.sdk.bulk;
+
+import com.emailverify.sdk.EmailVerifyClient;
+import com.emailverify.sdk.model.VerifyResponse;
+import com.emailverify.sdk.simulator.ApiSimulator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AutoBatcherTest {
+    private ApiSimulator simulator;
+    private EmailVerifyClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        simulator = ApiSimulator.builder().build().start();
+        client = EmailVerifyClient.builder("test-api-key")
+            .baseUrl(simulator.baseUrl())
+            .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        client.close();
+        simulator.close();
+    }
+
+    @Test
+    void flushesWhenBatchIsFull() throws Exception {
+        try (AutoBatcher batcher = AutoBatcher.builder(client)
+            .maxBatchSize(50)
+            .linger(Duration.ofMinutes(1))
+            .pollInterval(Duration.ofMillis(20))
+            .build()) {
+            List<CompletableFuture<VerifyResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                futures.add(batcher.verify((i % 2 == 0 ? "invalid" : "user") + i + "@example.com"));
+            }
+            assertEquals(0, batcher.buffered());
+
+            for (int i = 0; i < futures.size(); i++) {
+                VerifyResponse response = futures.get(i).get(5, TimeUnit.SECONDS);
+                assertEquals((i % 2 == 0 ? "invalid" : "user") + i + "@example.com", response.email());
+                assertEquals(i % 2 == 0 ? "invalid" : "valid", response.status());
+            }
+        }
+        // Two bulk submissions instead of one hundred /verify calls.
+        assertTrue(simulator.requests() < 20, "requests: " + simulator.requests());
+    }
+
+    @Test
+    void flushesAfterLingerAndSharesDuplicates() throws Exception {
+        try (AutoBatcher batcher = AutoBatcher.builder(client)
+            .linger(Duration.ofMillis(50))
+            .pollInterval(Duration.ofMillis(20))
+            .build()) {
+            CompletableFuture<VerifyResponse> first = batcher.verify("user@Example.com");
+            CompletableFuture<VerifyResponse> second = batcher.verify("user@example.com");
+            assertEquals(2, batcher.buffered());
+
+            assertEquals("valid", first.get(5, TimeUnit.SECONDS).status());
+            assertEquals("valid", second.get(5, TimeUnit.SECONDS).status());
+            assertEquals(0, batcher.buffered());
+        }
+    }
+
+    @Test
+    void immediateModeBypassesBuffer() throws Exception {
+        try (AutoBatcher batcher = AutoBatcher.builder(client).linger(Duration.ofMinutes(1)).build()) {
+            VerifyResponse response = batcher.verify("user@example.com", AutoBatcher.Mode.IMMEDIATE)
+                .get(5, TimeUnit.SECONDS);
+            assertEquals("valid", response.status());
+            assertEquals(1, response.creditsUsed());
+            assertEquals(0, batcher.buffered());
+        }
+    }
+
+    @Test
+    void rejectsBothModesAfterClose() {
+        AutoBatcher batcher = AutoBatcher.builder(client).build();
+        batcher.close();
+        batcher.onJobCompleted("job-never-submitted");
+
+        for (AutoBatcher.Mode mode : AutoBatcher.Mode.values()) {
+            CompletableFuture<VerifyResponse> future = batcher.verify("user@example.com", mode);
+            ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, e.getCause());
+        }
+    }
+
+    @Test
+    void closeWhileVerifyingCompletesEveryFuture() throws Exception {
+        AutoBatcher batcher = AutoBatcher.builder(client)
+            .maxBatchSize(5)
+            .linger(Duration.ofMinutes(1))
+            .pollInterval(Duration.ofMillis(20))
+            .build();
+        List<CompletableFuture<VerifyResponse>> futures = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+        CountDownLatch started = new CountDownLatch(4);
+        List<Future<?>> loops = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int thread = t;
+            loops.add(callers.submit(() -> {
+                started.countDown();
+                for (int i = 0; i < 200; i++) {
+                    futures.add(batcher.verify("user" + thread + "-" + i + "@example.com"));
+                }
+            }));
+        }
+        started.await();
+        batcher.close();
+        for (Future<?> loop : loops) {
+            // verify() never throws, even when close() races a full batch.
+            loop.get(5, TimeUnit.SECONDS);
+        }
+        callers.shutdown();
+
+        for (CompletableFuture<VerifyResponse> future : futures) {
+            try {
+                assertEquals("valid", future.get(10, TimeUnit.SECONDS).status());
+            } catch (ExecutionException e) {
+                assertInstanceOf(IllegalStateException.class, e.getCause());
+            }
+        }
+    }
+
+    @Test
+    void pollingJobsDoNotHoldWorkerThreads() throws Exception {
+        simulator.close();
+        simulator = ApiSimulator.builder().bulkItemsPerSecond(4).build().start();
+        client.close();
+        client = EmailVerifyClient.builder("test-api-key").baseUrl(simulator.baseUrl()).build();
+
+        long start = System.nanoTime();
+        try (AutoBatcher batcher = AutoBatcher.builder(client)
+            .maxBatchSize(2)
+            .linger(Duration.ofMinutes(1))
+            .pollInterval(Duration.ofMillis(20))
+            .threads(1)
+            .build()) {
+            List<CompletableFuture<VerifyResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(batcher.verify("user" + i + "@example.com"));
+            }
+            for (CompletableFuture<VerifyResponse> future : futures) {
+                assertEquals("valid", future.get(5, TimeUnit.SECONDS).status());
+            }
+        }
+        // Four two-item jobs at 4 items/s take about 0.5s when they run side by side on the
+        // one worker, and 2s if each job parked the thread until it finished.
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsedMillis < 1500, "elapsed: " + elapsedMillis + "ms");
+    }
+
+    @Test
+    void webhookSignalSkipsPollWait() throws Exception {
+        simulator.close();
+        simulator = ApiSimulator.builder().bulkItemsPerSecond(20).build().start();
+        client.close();
+        client = EmailVerifyClient.builder("test-api-key").baseUrl(simulator.baseUrl()).build();
+
+        AtomicReference<AutoBatcher> ref = new AtomicReference<>();
+        try (MockWebServer receiver = new MockWebServer()) {
+            receiver.setDispatcher(new Dispatcher() {
+                @Override
+                public MockResponse dispatch(RecordedRequest request) {
+                    try {
+                        JsonNode event = new ObjectMapper().readTree(request.getBody().readUtf8());
+                        ref.get().onJobCompleted(event.path("data").path("job_id").asText());
+                    } catch (IOException e) {
+                        return new MockResponse().setResponseCode(400);
+                    }
+                    return new MockResponse();
+                }
+            });
+            receiver.start();
+
+            try (AutoBatcher batcher = AutoBatcher.builder(client)
+                .linger(Duration.ofMinutes(1))
+                .pollInterval(Duration.ofMinutes(1))
+                .webhookUrl(receiver.url("/hooks").toString())
+                .build()) {
+                ref.set(batcher);
+                CompletableFuture<VerifyResponse> future = batcher.verify("user@example.com");
+                batcher.flush();
+
+                // The job is still processing on the first poll; only the webhook can wake
+                // the batcher before the one-minute poll interval.
+                assertEquals("valid", future.get(5, TimeUnit.SECONDS).status());
+            }
+        }
+    }
+}
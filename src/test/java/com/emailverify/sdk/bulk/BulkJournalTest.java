@@ -0,0 +1,225 @@
+package com.emailverify.sdk.bulk;
+
+import com.emailverify.sdk.EmailVerifyClient;
+import com.emailverify.sdk.exception.EmailVerifyException;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkJournalTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void replaysRecordedState() throws Exception {
+        Path file = dir.resolve("run.journal");
+        try (var journal = BulkJournal.open(file)) {
+            journal.chunkSubmitted(0, "job_a");
+            journal.jobPolled(0, "completed", 10);
+            journal.resultsFetched(0, 10);
+            journal.chunkCompleted(0);
+            journal.chunkSubmitted(1, "job_b");
+            journal.jobPolled(1, "processing", 4);
+        }
+
+        try (var journal = BulkJournal.open(file)) {
+            var first = journal.chunk(0);
+            assertEquals("job_a", first.jobId());
+            assertTrue(first.completed());
+            assertEquals(10, first.resultsOffset());
+
+            var second = journal.chunk(1);
+            assertEquals("job_b", second.jobId());
+            assertEquals("processing", second.status());
+            assertFalse(second.completed());
+            assertNull(journal.chunk(2));
+        }
+    }
+
+    @Test
+    void truncatesTornTail() throws Exception {
+        Path file = dir.resolve("torn.journal");
+        try (var journal = BulkJournal.open(file)) {
+            journal.chunkSubmitted(0, "job_a");
+        }
+        long intact = Files.size(file);
+        try (var channel = FileChannel.open(file, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0, 0, 0, 9, 1, 0, 0}));
+        }
+
+        try (var journal = BulkJournal.open(file)) {
+            assertEquals(intact, Files.size(file));
+            journal.resultsFetched(0, 5);
+        }
+        try (var journal = BulkJournal.open(file)) {
+            assertEquals(5, journal.chunk(0).resultsOffset());
+        }
+    }
+
+    @Test
+    void skipsUnknownRecordTypes() throws Exception {
+        Path file = dir.resolve("future.journal");
+        try (var journal = BulkJournal.open(file)) {
+            journal.chunkSubmitted(0, "job_a");
+        }
+        // A well-formed record of a type this version does not know.
+        ByteBuffer record = ByteBuffer.allocate(5 + 2 + 4);
+        record.putInt(2).put((byte) 99).putShort((short) 7);
+        CRC32C crc = new CRC32C();
+        crc.update(record.array(), 0, record.position());
+        record.putInt((int) crc.getValue()).flip();
+        try (var channel = FileChannel.open(file, StandardOpenOption.APPEND)) {
+            channel.write(record);
+        }
+
+        try (var journal = BulkJournal.open(file)) {
+            assertEquals("job_a", journal.chunk(0).jobId());
+            journal.chunkCompleted(0);
+        }
+        try (var journal = BulkJournal.open(file)) {
+            assertTrue(journal.chunk(0).completed());
+        }
+    }
+
+    @Test
+    void runnerResubmitsChunkWhoseJobFailed() throws Exception {
+        Path file = dir.resolve("failed.journal");
+        try (var journal = BulkJournal.open(file)) {
+            journal.chunkSubmitted(0, "job_a");
+        }
+
+        try (var server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setBody(jobStatus("job_a", "failed")));
+            server.enqueue(new MockResponse().setBody(jobStatus("job_b", "pending")));
+            server.enqueue(new MockResponse().setBody(jobStatus("job_b", "completed")));
+            server.enqueue(new MockResponse().setBody("""
+                {"job_id": "job_b", "total": 1, "limit": 100, "offset": 0,
+                 "results": [{"email": "a1@example.com", "status": "valid", "result": {}, "score": 0.9}]}
+                """));
+            server.start();
+
+            var client = EmailVerifyClient.builder("test-api-key")
+                .baseUrl(server.url("/").toString())
+                .retries(1)
+                .build();
+            List<List<String>> chunks = List.of(List.of("a1@example.com"));
+            List<String> delivered = new ArrayList<>();
+            try (client) {
+                try (var journal = BulkJournal.open(file)) {
+                    var runner = ResumableBulkRunner.builder(client, journal).pollInterval(Duration.ofMillis(10)).build();
+                    var e = assertThrows(EmailVerifyException.class, () -> runner.run(chunks, (chunk, page) -> {}));
+                    assertEquals("BULK_JOB_FAILED", e.getErrorCode());
+                }
+                try (var journal = BulkJournal.open(file)) {
+                    assertNull(journal.chunk(0).jobId());
+                    ResumableBulkRunner.builder(client, journal)
+                        .pollInterval(Duration.ofMillis(10))
+                        .build()
+                        .run(chunks, (chunk, page) -> page.results().forEach(r -> delivered.add(r.email())));
+                    assertEquals("job_b", journal.chunk(0).jobId());
+                    assertTrue(journal.chunk(0).completed());
+                }
+            }
+
+            assertEquals(List.of("a1@example.com"), delivered);
+            assertEquals("/verify/bulk/job_a", server.takeRequest().getPath());
+            assertEquals("/verify/bulk", server.takeRequest().getPath());
+        }
+    }
+
+    @Test
+    void runnerKeepsPollingThroughStatusWithoutState() throws Exception {
+        Path file = dir.resolve("unknown.journal");
+        try (var server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setBody(jobStatus("job_a", "pending")));
+            server.enqueue(new MockResponse().setBody("{\"job_id\": \"job_a\", \"total\": 1}"));
+            server.enqueue(new MockResponse().setBody(jobStatus("job_a", "completed")));
+            server.enqueue(new MockResponse().setBody("""
+                {"job_id": "job_a", "total": 1, "limit": 100, "offset": 0,
+                 "results": [{"email": "a1@example.com", "status": "valid", "result": {}, "score": 0.9}]}
+                """));
+            server.start();
+
+            var client = EmailVerifyClient.builder("test-api-key")
+                .baseUrl(server.url("/").toString())
+                .retries(1)
+                .build();
+            List<String> delivered = new ArrayList<>();
+            try (client; var journal = BulkJournal.open(file)) {
+                ResumableBulkRunner.builder(client, journal)
+                    .pollInterval(Duration.ofMillis(10))
+                    .build()
+                    .run(List.of(List.of("a1@example.com")),
+                        (chunk, page) -> page.results().forEach(r -> delivered.add(r.email())));
+                assertTrue(journal.chunk(0).completed());
+            }
+            assertEquals(List.of("a1@example.com"), delivered);
+        }
+
+        try (var journal = BulkJournal.open(file)) {
+            journal.chunkSubmitted(1, "job_b");
+            journal.jobPolled(1, null, 0);
+        }
+        try (var journal = BulkJournal.open(file)) {
+            assertEquals("unknown", journal.chunk(1).status());
+        }
+    }
+
+    @Test
+    void runnerResumesFromJournal() throws Exception {
+        Path file = dir.resolve("resume.journal");
+        try (var journal = BulkJournal.open(file)) {
+            journal.chunkSubmitted(0, "job_a");
+            journal.chunkCompleted(0);
+            journal.chunkSubmitted(1, "job_b");
+            journal.jobPolled(1, "completed", 2);
+            journal.resultsFetched(1, 1);
+        }
+
+        try (var server = new MockWebServer()) {
+            server.enqueue(new MockResponse().setBody("""
+                {"job_id": "job_b", "total": 2, "limit": 100, "offset": 1,
+                 "results": [{"email": "b2@example.com", "status": "valid", "result": {}, "score": 0.9}]}
+                """));
+            server.start();
+
+            var client = EmailVerifyClient.builder("test-api-key")
+                .baseUrl(server.url("/").toString())
+                .retries(1)
+                .build();
+            List<String> delivered = new ArrayList<>();
+            try (client; var journal = BulkJournal.open(file)) {
+                ResumableBulkRunner.builder(client, journal)
+                    .pollInterval(Duration.ofMillis(10))
+                    .build()
+                    .run(List.of(List.of("a1@example.com"), List.of("b1@example.com", "b2@example.com")),
+                        (chunk, page) -> page.results().forEach(r -> delivered.add(chunk + ":" + r.email())));
+                assertTrue(journal.chunk(1).completed());
+            }
+
+            assertEquals(List.of("1:b2@example.com"), delivered);
+            assertEquals(1, server.getRequestCount());
+            RecordedRequest request = server.takeRequest();
+            assertEquals("/verify/bulk/job_b/results?limit=100&offset=1", request.getPath());
+        }
+    }
+
+    private static String jobStatus(String jobId, String status) {
+        return "{\"job_id\": \"" + jobId + "\", \"status\": \"" + status + "\", \"total\": 1, \"processed\": "
+            + ("completed".equals(status) ? 1 : 0) + "}";
+    }
+}
@@ -0,0 +1,138 @@
+package com.emailverify.sdk.bulk;
+
+import com.emailverify.sdk.EmailVerifyClient;
+import com.emailverify.sdk.model.VerifyResponse;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DomainSchedulerTest {
+    private static final Pattern EMAIL = Pattern.compile("\"email\":\"([^\"]+)\"");
+
+    private MockWebServer server;
+    private EmailVerifyClient client;
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> peak = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                Matcher m = EMAIL.matcher(request.getBody().readUtf8());
+                String email = m.find() ? m.group(1) : "";
+                String domain = email.substring(email.indexOf('@') + 1);
+                int now = inFlight.computeIfAbsent(domain, d -> new AtomicInteger()).incrementAndGet();
+                peak.computeIfAbsent(domain, d -> new AtomicInteger()).accumulateAndGet(now, Math::max);
+                try {
+                    Thread.sleep(domain.startsWith("slow") ? 60 : 5);
+                } finally {
+                    inFlight.get(domain).decrementAndGet();
+                }
+                return new MockResponse().setBody("{\"email\":\"" + email
+                    + "\",\"status\":\"valid\",\"score\":0.9,\"credits_used\":1}");
+            }
+        });
+        server.start();
+        client = EmailVerifyClient.builder("test-api-key")
+            .baseUrl(server.url("/").toString())
+            .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        client.close();
+        server.shutdown();
+    }
+
+    @Test
+    void interleavesDomainsAcrossChunks() {
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            emails.add("g" + i + "@gmail.com");
+        }
+        emails.addAll(List.of("a1@a.com", "a2@a.com", "b1@B.com", "b2@b.com"));
+
+        List<List<String>> chunks = DomainScheduler.interleave(emails, 4, 2);
+
+        assertEquals(List.of("g0@gmail.com", "a1@a.com", "b1@B.com", "g1@gmail.com"), chunks.get(0));
+        // The rotation carries over between chunks, so a.com and b.com lead the next one.
+        assertEquals(List.of("a2@a.com", "b2@b.com", "g2@gmail.com", "g3@gmail.com"), chunks.get(1));
+        assertEquals(List.of("g4@gmail.com", "g5@gmail.com"), chunks.get(2));
+        assertEquals(5, chunks.size());
+        assertEquals(emails.size(), chunks.stream().mapToInt(List::size).sum());
+    }
+
+    @Test
+    void capsInFlightCallsPerDomain() throws Exception {
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            emails.add("user" + i + "@gmail.com");
+            if (i % 4 == 0) {
+                emails.add("user" + i + "@corp" + i + ".com");
+            }
+        }
+
+        List<VerifyResponse> results = DomainScheduler.builder(client)
+            .maxInFlight(8)
+            .maxPerDomain(2)
+            .build()
+            .verifyAll(emails);
+
+        assertEquals(emails.size(), results.size());
+        for (int i = 0; i < emails.size(); i++) {
+            assertEquals(emails.get(i), results.get(i).email());
+        }
+        assertTrue(peak.get("gmail.com").get() <= 2, "gmail peak " + peak.get("gmail.com"));
+    }
+
+    @Test
+    void downWeightsSlowDomains() throws Exception {
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            emails.add("user" + i + "@slow.example");
+            for (int d = 0; d < 3; d++) {
+                emails.add("user" + i + "@fast" + d + ".example");
+            }
+        }
+        List<String> failed = new ArrayList<>();
+        DomainScheduler scheduler = DomainScheduler.builder(client)
+            .maxInFlight(16)
+            .maxPerDomain(4)
+            .onItemError((email, e) -> failed.add(email))
+            .build();
+
+        scheduler.verifyAll(emails);
+
+        assertTrue(failed.isEmpty());
+        DomainScheduler.DomainStats slow = scheduler.domainStats("slow.example");
+        DomainScheduler.DomainStats fast = scheduler.domainStats("fast0.example");
+        assertEquals(30, slow.completed());
+        assertTrue(slow.averageLatency().compareTo(fast.averageLatency()) > 0);
+        assertTrue(slow.cap() < 4, "slow cap " + slow.cap());
+        assertEquals(4, fast.cap());
+        assertNull(scheduler.domainStats("unseen.example"));
+    }
+
+    @Test
+    void extractsNormalizedDomain() {
+        assertEquals("example.com", DomainScheduler.domainOf(" User@Example.COM "));
+        assertEquals("", DomainScheduler.domainOf("no-at-sign"));
+    }
+}
@@ -0,0 +1,78 @@
+package com.emailverify.sdk.bulk;
+
+import com.emailverify.sdk.model.BulkResultItem;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmailDeduplicatorTest {
+    @Test
+    void normalizeTrimsAndLowercasesDomainOnly() {
+        assertEquals("User@example.com", EmailNormalizer.normalize("  User@EXAMPLE.com \n"));
+        assertNull(EmailNormalizer.normalize("   "));
+        assertEquals("no-at-sign", EmailNormalizer.normalize("no-at-sign"));
+    }
+
+    @Test
+    void normalizeComposesUnicodeAndConvertsIdnDomain() {
+        // "e" + combining acute accent composes to a single code point under NFC.
+        assertEquals("café@example.com", EmailNormalizer.normalize("café@example.com"));
+        assertEquals("user@xn--mller-kva.de", EmailNormalizer.normalize("user@Müller.de"));
+    }
+
+    @Test
+    void offerDropsDuplicatesAfterNormalization() {
+        var dedup = new EmailDeduplicator(4);
+        List<String> unique = dedup.offerAll(List.of(
+            "a@example.com", " a@EXAMPLE.com", "b@example.com", "", "a@example.com"
+        ));
+
+        assertEquals(List.of("a@example.com", "b@example.com"), unique);
+        assertEquals(5, dedup.rowCount());
+        assertEquals(2, dedup.uniqueCount());
+        assertEquals(-1, dedup.uniqueIndexOf(3));
+        assertArrayEquals(new int[]{0, 1, 4}, dedup.rowsOf("a@Example.COM"));
+    }
+
+    @Test
+    void fanOutDeliversResultToEveryRow() {
+        var dedup = new EmailDeduplicator();
+        dedup.offerAll(List.of("x@example.com", "y@example.com", "x@Example.com ", "y@example.com"));
+
+        List<BulkResultItem> results = List.of(
+            new BulkResultItem("y@example.com", "invalid", null, 0.1),
+            new BulkResultItem("x@example.com", "valid", null, 0.9),
+            new BulkResultItem("z@example.com", "valid", null, 0.9)
+        );
+        BulkResultItem[] rows = new BulkResultItem[dedup.rowCount()];
+        dedup.fanOut(results, (item, row) -> rows[row] = item);
+
+        assertEquals("valid", rows[0].status());
+        assertEquals("invalid", rows[1].status());
+        assertEquals("valid", rows[2].status());
+        assertEquals("invalid", rows[3].status());
+    }
+
+    @Test
+    void indexGrowsPastInitialCapacity() {
+        var dedup = new EmailDeduplicator(0);
+        List<String> input = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            input.add("user" + (i % 20_000) + "@example.com");
+        }
+        assertEquals(20_000, dedup.offerAll(input).size());
+        assertEquals(30_000, dedup.duplicateCount());
+        assertEquals(19_999, dedup.uniqueIndexOf("user19999@example.com"));
+    }
+
+    @Test
+    void rejectsExpectedRowsBeyondIndexCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new EmailDeduplicator(-1));
+        assertThrows(IllegalArgumentException.class, () -> new EmailDeduplicator(Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> new FingerprintIndex(1_600_000_000));
+        assertEquals(0, new FingerprintIndex(0).size());
+    }
+}
@@ -0,0 +1,129 @@
+package com.emailverify.sdk.bulk;
+
+import com.emailverify.sdk.EmailVerifyClient;
+import com.emailverify.sdk.model.BulkJobResponse;
+import com.emailverify.sdk.simulator.ApiSimulator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedAddressFileTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void readsLinesAcrossManySegments() throws Exception {
+        List<String> expected = new ArrayList<>();
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            String email = "user" + i + "@example" + (i % 7) + ".com";
+            expected.add(email);
+            content.append(i % 3 == 0 ? "  " + email + " \r\n" : email + "\n");
+            if (i % 50 == 0) {
+                content.append("\n   \n");
+            }
+        }
+        expected.add("josé@exämple.com");
+        content.append("josé@exämple.com");
+        Path file = write(content.toString());
+
+        MappedAddressFile source = MappedAddressFile.builder(file)
+            .segmentSize(256)
+            .parallelism(4)
+            .build();
+        Set<String> seen = Collections.synchronizedSet(new HashSet<>());
+        long count = source.forEach(email -> seen.add(email.toString()));
+
+        assertEquals(expected.size(), count);
+        assertEquals(new HashSet<>(expected), seen);
+
+        long[] bounds = source.segmentBounds();
+        assertTrue(bounds.length > 10);
+        byte[] bytes = Files.readAllBytes(file);
+        for (int i = 1; i < bounds.length - 1; i++) {
+            assertEquals('\n', bytes[(int) bounds[i] - 1], "segment " + i + " is not line-aligned");
+        }
+    }
+
+    @Test
+    void readsCsvColumnAndSkipsHeader() throws Exception {
+        Path file = write("""
+            id,email,name
+            1,a@example.com,Ann
+            2,"b@example.com","Bee, B."
+            3,,Empty
+            4
+            5, c@example.com ,Cee
+            """);
+
+        List<String> seen = Collections.synchronizedList(new ArrayList<>());
+        long count = MappedAddressFile.builder(file)
+            .csv(',', 1)
+            .skipHeader(true)
+            .build()
+            .forEach(email -> seen.add(email.toString()));
+
+        assertEquals(3, count);
+        assertEquals(List.of("a@example.com", "b@example.com", "c@example.com"), seen);
+    }
+
+    @Test
+    void dropsLinesLongerThanTheWindow() throws Exception {
+        Path file = write("a@example.com\n" + "x".repeat(1_500_000) + "\nb@example.com\n");
+
+        List<String> seen = Collections.synchronizedList(new ArrayList<>());
+        MappedAddressFile.builder(file).build().forEach(email -> seen.add(email.toString()));
+
+        assertEquals(List.of("a@example.com", "b@example.com"), seen);
+    }
+
+    @Test
+    void chunksFeedBulkSubmission() throws Exception {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 2500; i++) {
+            content.append("user").append(i).append("@example.com\n");
+        }
+        Path file = write(content.toString());
+        MappedAddressFile source = MappedAddressFile.builder(file).build();
+
+        List<Integer> sizes = Collections.synchronizedList(new ArrayList<>());
+        assertEquals(2500, source.forEachChunk(1000, chunk -> sizes.add(chunk.size())));
+        assertEquals(List.of(1000, 1000, 500), sizes);
+
+        try (ApiSimulator simulator = ApiSimulator.builder().build().start();
+             EmailVerifyClient client = EmailVerifyClient.builder("test-api-key")
+                 .baseUrl(simulator.baseUrl())
+                 .build()) {
+            List<BulkJobResponse> jobs = source.submitBulk(client, 1000, false);
+            assertEquals(3, jobs.size());
+            assertEquals(2500, jobs.stream().mapToInt(BulkJobResponse::total).sum());
+        }
+    }
+
+    @Test
+    void asciiViewBehavesLikeAString() {
+        byte[] bytes = "xxuser@example.comyy".getBytes(StandardCharsets.US_ASCII);
+        var view = new MappedAddressFile.AsciiView().reset(bytes, 2, 16);
+        assertEquals(16, view.length());
+        assertEquals('u', view.charAt(0));
+        assertEquals("example", view.subSequence(5, 12).toString());
+        assertEquals("user@example.com", view.toString());
+        assertEquals(EmailNormalizer.fingerprint("user@example.com"), EmailNormalizer.fingerprint(view));
+    }
+
+    private Path write(String content) throws Exception {
+        Path file = dir.resolve("emails.txt");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+}
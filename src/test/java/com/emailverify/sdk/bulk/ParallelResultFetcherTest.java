@@ -0,0 +1,130 @@
+package com.emailverify.sdk.bulk;
+
+import com.emailverify.sdk.EmailVerifyClient;
+import com.emailverify.sdk.exception.NotFoundException;
+import com.emailverify.sdk.model.BulkJobResponse;
+import com.emailverify.sdk.model.BulkResultItem;
+import com.emailverify.sdk.simulator.ApiSimulator;
+import com.emailverify.sdk.simulator.LatencyDistribution;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelResultFetcherTest {
+    private ApiSimulator simulator;
+    private EmailVerifyClient client;
+    private List<String> emails;
+    private BulkJobResponse job;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        simulator = ApiSimulator.builder()
+            .latency(LatencyDistribution.uniform(Duration.ofMillis(0), Duration.ofMillis(15)))
+            .build()
+            .start();
+        client = EmailVerifyClient.builder("test-api-key")
+            .baseUrl(simulator.baseUrl())
+            .retries(1)
+            .build();
+        emails = new ArrayList<>();
+        for (int i = 0; i < 1050; i++) {
+            emails.add((i % 3 == 0 ? "invalid" : "user") + i + "@example.com");
+        }
+        job = client.verifyBulk(emails);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        client.close();
+        simulator.close();
+    }
+
+    @Test
+    void orderedFetchPreservesOffsets() throws Exception {
+        List<Integer> offsets = new ArrayList<>();
+        List<String> fetched = new ArrayList<>();
+        ParallelResultFetcher.builder(client)
+            .pageSize(100)
+            .concurrency(4)
+            .build()
+            .fetch(job, page -> {
+                offsets.add(page.offset());
+                page.results().forEach(item -> fetched.add(item.email()));
+            });
+
+        assertEquals(emails, fetched);
+        assertEquals(11, offsets.size());
+        for (int i = 0; i < offsets.size(); i++) {
+            assertEquals(i * 100, offsets.get(i));
+        }
+    }
+
+    @Test
+    void unorderedFetchReturnsEveryResult() throws Exception {
+        List<BulkResultItem> results = ParallelResultFetcher.builder(client)
+            .pageSize(64)
+            .concurrency(8)
+            .ordered(false)
+            .build()
+            .fetchAll(job);
+
+        assertEquals(emails.size(), results.size());
+        assertEquals(new HashSet<>(emails), new HashSet<>(results.stream().map(BulkResultItem::email).toList()));
+    }
+
+    @Test
+    void statusFilteredFetchLearnsTotalFromFirstPage() throws Exception {
+        List<String> invalid = new ArrayList<>();
+        ParallelResultFetcher.builder(client)
+            .pageSize(50)
+            .concurrency(3)
+            .status("invalid")
+            .build()
+            .fetch(job, page -> page.results().forEach(item -> invalid.add(item.email())));
+
+        assertEquals(emails.stream().filter(e -> e.startsWith("invalid")).toList(), invalid);
+    }
+
+    @Test
+    void fetchesShortfallWhenServerCapsPageSize() throws Exception {
+        simulator.close();
+        simulator = ApiSimulator.builder().maxResultsLimit(30).build().start();
+        client.close();
+        client = EmailVerifyClient.builder("test-api-key").baseUrl(simulator.baseUrl()).build();
+        job = client.verifyBulk(emails);
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            var fetcher = ParallelResultFetcher.builder(client)
+                .pageSize(100)
+                .concurrency(3)
+                .executor(executor)
+                .build();
+            List<String> fetched = new ArrayList<>();
+            fetcher.fetch(job, page -> page.results().forEach(item -> fetched.add(item.email())));
+            assertEquals(emails, fetched);
+
+            // The shared executor is reused, not shut down, between fetches.
+            assertEquals(emails.size(), fetcher.fetchAll(job).size());
+            assertFalse(executor.isShutdown());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void propagatesApiErrors() {
+        var fetcher = ParallelResultFetcher.builder(client).build();
+        assertThrows(NotFoundException.class, () -> fetcher.fetch("job_missing", page -> {}));
+    }
+}
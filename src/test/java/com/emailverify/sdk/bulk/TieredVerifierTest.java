@@ -0,0 +1,100 @@
+package com.emailverify.sdk.bulk;
+
+import com.emailverify.sdk.EmailVerifyClient;
+import com.emailverify.sdk.model.BulkResultItem;
+import com.emailverify.sdk.model.VerificationResult;
+import com.emailverify.sdk.model.VerifyResponse;
+import com.emailverify.sdk.simulator.ApiSimulator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TieredVerifierTest {
+    private ApiSimulator simulator;
+    private EmailVerifyClient client;
+    private TieredVerifier verifier;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        simulator = ApiSimulator.builder().build().start();
+        client = EmailVerifyClient.builder("test-api-key")
+            .baseUrl(simulator.baseUrl())
+            .build();
+        verifier = TieredVerifier.builder(client)
+            .pollInterval(Duration.ofMillis(10))
+            .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        client.close();
+        simulator.close();
+    }
+
+    @Test
+    void undeterminedResultsNeedSmtpCheck() {
+        assertTrue(TieredVerifier.needsSmtpCheck(flags(VerificationResult.VALID_FORMAT | VerificationResult.VALID_MX)));
+        assertTrue(TieredVerifier.needsSmtpCheck(null));
+        assertFalse(TieredVerifier.needsSmtpCheck(flags(VerificationResult.VALID_FORMAT)));
+        assertFalse(TieredVerifier.needsSmtpCheck(flags(VerificationResult.VALID_FORMAT
+            | VerificationResult.VALID_MX | VerificationResult.DISPOSABLE)));
+        assertFalse(TieredVerifier.needsSmtpCheck(flags(VerificationResult.VALID_FORMAT
+            | VerificationResult.VALID_MX | VerificationResult.CATCHALL)));
+        assertFalse(TieredVerifier.needsSmtpCheck(flags(VerificationResult.VALID_FORMAT
+            | VerificationResult.VALID_MX | VerificationResult.SMTP_VALID)));
+    }
+
+    @Test
+    void singleVerificationEscalatesOnlyWhenUndetermined() throws Exception {
+        VerifyResponse settled = verifier.verify("invalid1@example.com");
+        assertEquals("invalid", settled.status());
+        assertEquals(0, verifier.smtpTier().calls());
+
+        VerifyResponse escalated = verifier.verify("user1@example.com");
+        assertTrue(escalated.result().smtpValid());
+        assertEquals(2, verifier.fastTier().calls());
+        assertEquals(1, verifier.smtpTier().calls());
+        assertEquals(3, client.stats().requests());
+    }
+
+    @Test
+    void listVerificationRechecksOnlyUndeterminedAddresses() throws Exception {
+        List<String> emails = new ArrayList<>();
+        String[] prefixes = {"user", "invalid", "disposable", "catchall", "unknown"};
+        for (int i = 0; i < 250; i++) {
+            emails.add(prefixes[i % prefixes.length] + i + "@example.com");
+        }
+        emails.add("user0@example.com");
+        emails.add("  user0@EXAMPLE.com");
+
+        List<BulkResultItem> results = verifier.verifyAll(emails);
+
+        assertEquals(250, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            BulkResultItem item = results.get(i);
+            assertEquals(emails.get(i), item.email());
+            // Only the SMTP pass can confirm a mailbox, so smtp_valid marks merged results.
+            assertEquals(item.email().startsWith("user"), item.result().smtpValid(), item.email());
+        }
+
+        TieredVerifier.TierStats fast = verifier.fastTier();
+        TieredVerifier.TierStats smtp = verifier.smtpTier();
+        assertEquals(250, fast.addresses());
+        assertEquals(100, smtp.addresses());
+        assertEquals(250, fast.credits());
+        assertEquals(100, smtp.credits());
+        assertTrue(fast.elapsed().toNanos() > 0);
+        assertTrue(smtp.perAddress().toNanos() > 0);
+    }
+
+    private static VerificationResult flags(int flags) {
+        return VerificationResult.fromFlags(flags);
+    }
+}
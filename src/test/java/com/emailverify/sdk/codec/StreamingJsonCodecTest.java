@@ -0,0 +1,111 @@
+package com.emailverify.sdk.codec;
+
+import com.emailverify.sdk.model.BulkJobResponse;
+import com.emailverify.sdk.model.BulkResultsResponse;
+import com.emailverify.sdk.model.CreditsResponse;
+import com.emailverify.sdk.model.VerificationResult;
+import com.emailverify.sdk.model.VerifyResponse;
+import com.fasterxml.jackson.core.JsonParseException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingJsonCodecTest {
+    private final StreamingJsonCodec streaming = new StreamingJsonCodec();
+    private final DatabindJsonCodec databind = new DatabindJsonCodec();
+
+    private void assertSameAsDatabind(String json, Type type) throws Exception {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        Object expected = databind.decode(bytes, type);
+        Object actual = streaming.decode(bytes, type);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void decodesVerifyResponseLikeDatabind() throws Exception {
+        assertSameAsDatabind("""
+            {"email": "test@example.com", "status": "valid",
+             "result": {"deliverable": true, "valid_format": true, "valid_domain": true, "valid_mx": true,
+                        "disposable": false, "role": false, "catchall": false, "free": true,
+                        "smtp_valid": true, "new_flag": {"nested": [1, 2]}},
+             "score": 0.95, "reason": null, "credits_used": 1, "extra": [1, {"a": null}]}
+            """, VerifyResponse.class);
+        assertSameAsDatabind("""
+            {"email": "test@example.com", "status": "valid", "result": {}, "score": 1, "credits_used": null}
+            """, VerifyResponse.class);
+        assertSameAsDatabind("""
+            {"email": "test@example.com", "result": null}
+            """, VerifyResponse.class);
+        assertSameAsDatabind("""
+            {"deliverable": true, "catchall": true}
+            """, VerificationResult.class);
+    }
+
+    @Test
+    void decodesBulkTypesLikeDatabind() throws Exception {
+        assertSameAsDatabind("""
+            {"job_id": "job_123", "status": "processing", "total": 100, "processed": 50,
+             "valid": 40, "invalid": 5, "unknown": 5, "credits_used": 100,
+             "created_at": "2025-01-15T10:30:00Z", "completed_at": null, "progress_percent": 50}
+            """, BulkJobResponse.class);
+        assertSameAsDatabind("""
+            {"job_id": "job_123", "status": "processing", "total": 3}
+            """, BulkJobResponse.class);
+        assertSameAsDatabind("""
+            {"job_id": "job_123", "total": 2, "limit": 50, "offset": 0, "results": [
+                {"email": "a@example.com", "status": "valid", "result": {"deliverable": true}, "score": 0.95},
+                {"email": "b@example.com", "status": "invalid", "result": null, "score": 0.1, "unknown": "x"}
+            ]}
+            """, BulkResultsResponse.class);
+        assertSameAsDatabind("""
+            {"job_id": "job_123", "results": null}
+            """, BulkResultsResponse.class);
+    }
+
+    @Test
+    void fallsBackForOtherTypes() throws Exception {
+        assertSameAsDatabind("""
+            {"available": 9500, "used": 500, "total": 10000, "plan": "Professional",
+             "rate_limit": {"requests_per_hour": 10000, "remaining": 9850}}
+            """, CreditsResponse.class);
+    }
+
+    @Test
+    void rejectsMalformedInput() {
+        byte[] array = "[1, 2]".getBytes(StandardCharsets.UTF_8);
+        assertThrows(JsonParseException.class, () -> streaming.decode(array, VerifyResponse.class));
+    }
+
+    @Test
+    void rejectsNestedValuesInKnownFieldsLikeDatabind() {
+        for (String json : List.of(
+                "{\"email\": {\"status\": \"valid\"}, \"status\": \"invalid\"}",
+                "{\"email\": \"a@example.com\", \"score\": [0.9, 0.1], \"status\": \"valid\"}",
+                "{\"email\": \"a@example.com\", \"result\": {\"deliverable\": [true], \"role\": true}}")) {
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            assertThrows(IOException.class, () -> databind.decode(bytes, VerifyResponse.class), json);
+            assertThrows(IOException.class, () -> streaming.decode(bytes, VerifyResponse.class), json);
+        }
+        byte[] job = "{\"job_id\": [\"job_1\"], \"total\": {\"n\": 1}}".getBytes(StandardCharsets.UTF_8);
+        assertThrows(IOException.class, () -> streaming.decode(job, BulkJobResponse.class));
+    }
+
+    @Test
+    void encodesFlatPayloadsLikeDatabind() throws Exception {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("emails", List.of("a@example.com", "b\"quoted\"@example.com"));
+        payload.put("smtp_check", true);
+        payload.put("timeout", 5000);
+        payload.put("webhook_url", null);
+
+        assertEquals(new String(databind.encode(payload), StandardCharsets.UTF_8),
+            new String(streaming.encode(payload), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,258 @@
+package com.emailverify.sdk.flow;
+
+import com.emailverify.sdk.EmailVerifyClient;
+import com.emailverify.sdk.model.VerifyResponse;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerificationProcessorTest {
+    private MockWebServer mockServer;
+    private EmailVerifyClient client;
+    private final AtomicInteger concurrent = new AtomicInteger();
+    private final AtomicInteger maxConcurrent = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockServer = new MockWebServer();
+        mockServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                int now = concurrent.incrementAndGet();
+                maxConcurrent.accumulateAndGet(now, Math::max);
+                try {
+                    Thread.sleep(20);
+                    String body = request.getBody().readUtf8();
+                    if (body.contains("bad@")) {
+                        return new MockResponse().setResponseCode(400)
+                            .setBody("{\"error\": {\"code\": \"INVALID_EMAIL\", \"message\": \"Invalid email\"}}");
+                    }
+                    String email = body.replaceAll(".*\"email\":\"([^\"]+)\".*", "$1");
+                    return new MockResponse().setBody(
+                        "{\"email\": \"" + email + "\", \"status\": \"valid\", \"result\": {}, \"score\": 0.9, \"credits_used\": 1}");
+                } finally {
+                    concurrent.decrementAndGet();
+                }
+            }
+        });
+        mockServer.start();
+        client = EmailVerifyClient.builder("test-api-key")
+            .baseUrl(mockServer.url("/").toString())
+            .retries(1)
+            .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        client.close();
+        mockServer.shutdown();
+    }
+
+    @Test
+    void verifiesStreamAndRoutesItemErrors() throws Exception {
+        Map<String, String> failures = new ConcurrentHashMap<>();
+        var processor = VerificationProcessor.builder(client)
+            .maxInFlight(3)
+            .onItemError((email, e) -> failures.put(email, e.getErrorCode()))
+            .build();
+
+        Set<String> received = ConcurrentHashMap.newKeySet();
+        CountDownLatch done = new CountDownLatch(1);
+        processor.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(VerifyResponse item) {
+                received.add(item.email());
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                done.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                done.countDown();
+            }
+        });
+
+        try (var publisher = new SubmissionPublisher<String>()) {
+            publisher.subscribe(processor);
+            for (int i = 0; i < 12; i++) {
+                publisher.submit("user" + i + "@example.com");
+            }
+            publisher.submit("bad@example.com");
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(12, received.size());
+        assertEquals(Map.of("bad@example.com", "INVALID_REQUEST"), failures);
+        assertTrue(maxConcurrent.get() <= 3, "max concurrency was " + maxConcurrent.get());
+    }
+
+    @Test
+    void requestsUpstreamOnlyForDownstreamDemand() throws Exception {
+        var processor = VerificationProcessor.builder(client).maxInFlight(8).build();
+        AtomicInteger upstreamRequested = new AtomicInteger();
+        processor.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                upstreamRequested.addAndGet((int) n);
+            }
+
+            @Override
+            public void cancel() {}
+        });
+
+        CountDownLatch received = new CountDownLatch(2);
+        processor.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(2);
+            }
+
+            @Override
+            public void onNext(VerifyResponse item) {
+                received.countDown();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {}
+
+            @Override
+            public void onComplete() {}
+        });
+
+        assertEquals(2, upstreamRequested.get());
+        for (String email : List.of("a@example.com", "b@example.com")) {
+            processor.onNext(email);
+        }
+        assertTrue(received.await(10, TimeUnit.SECONDS));
+        assertEquals(2, upstreamRequested.get());
+    }
+
+    @Test
+    void rejectsSecondSubscriber() {
+        var processor = VerificationProcessor.builder(client).build();
+        processor.subscribe(new NoopSubscriber());
+        var second = new NoopSubscriber();
+        processor.subscribe(second);
+        assertInstanceOf(IllegalStateException.class, second.error);
+    }
+
+    @Test
+    void rejectsNullElements() {
+        var processor = VerificationProcessor.builder(client).build();
+        processor.onSubscribe(new NoopSubscription());
+        processor.subscribe(new NoopSubscriber());
+        assertThrows(NullPointerException.class, () -> processor.onNext(null));
+        assertEquals(0, processor.inFlight());
+    }
+
+    @Test
+    void signalsNothingBeforeOnSubscribeReturns() {
+        var processor = VerificationProcessor.builder(client).build();
+        processor.onSubscribe(new NoopSubscription());
+        List<String> signals = new ArrayList<>();
+        processor.subscribe(new NoopSubscriber() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                signals.add("onSubscribe");
+                // Upstream completing on another thread while onSubscribe is still running.
+                processor.onComplete();
+                signals.add("onSubscribe returned");
+            }
+
+            @Override
+            public void onComplete() {
+                signals.add("onComplete");
+            }
+        });
+        assertEquals(List.of("onSubscribe", "onSubscribe returned", "onComplete"), signals);
+    }
+
+    @Test
+    void dropsInFlightResultsAfterUpstreamError() throws Exception {
+        var processor = VerificationProcessor.builder(client).build();
+        processor.onSubscribe(new NoopSubscription());
+        List<String> signals = Collections.synchronizedList(new ArrayList<>());
+        processor.subscribe(new NoopSubscriber() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(10);
+            }
+
+            @Override
+            public void onNext(VerifyResponse item) {
+                signals.add("onNext");
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                signals.add("onError");
+            }
+        });
+
+        processor.onNext("late@example.com");
+        processor.onError(new IllegalStateException("upstream failed"));
+        assertEquals(List.of("onError"), signals);
+
+        // The verify call finishes after the error and must not reach the subscriber.
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (processor.inFlight() > 0) {
+            assertTrue(System.nanoTime() < deadline, "verify did not finish");
+            Thread.sleep(5);
+        }
+        Thread.sleep(50);
+        assertEquals(List.of("onError"), signals);
+    }
+
+    private static class NoopSubscription implements Flow.Subscription {
+        @Override
+        public void request(long n) {}
+
+        @Override
+        public void cancel() {}
+    }
+
+    private static class NoopSubscriber implements Flow.Subscriber<VerifyResponse> {
+        Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {}
+
+        @Override
+        public void onNext(VerifyResponse item) {}
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {}
+    }
+}
@@ -0,0 +1,160 @@
+package com.emailverify.sdk.jfr;
+
+import com.emailverify.sdk.EmailVerifyClient;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SdkEventsTest {
+    private static final String VERIFY_BODY =
+        "{\"email\":\"a@example.com\",\"status\":\"valid\",\"score\":0.9,\"credits_used\":1}";
+
+    @TempDir
+    Path dir;
+
+    private MockWebServer server;
+    private EmailVerifyClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        client = EmailVerifyClient.builder("test-api-key")
+            .baseUrl(server.url("/").toString())
+            .retries(2)
+            .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        client.close();
+        server.shutdown();
+    }
+
+    @Test
+    void eventsAreNotCommittedWithoutARecording() {
+        assertFalse(new ApiRequestEvent().shouldCommit());
+    }
+
+    @Test
+    void recordingContainsSdkEvents() throws Exception {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(ApiRequestEvent.class);
+            recording.enable(RetryBackoffEvent.class);
+            recording.enable(RateLimitWaitEvent.class);
+            recording.enable(BulkPollEvent.class);
+            recording.enable(WebhookSignatureEvent.class);
+            recording.start();
+
+            server.enqueue(new MockResponse().setResponseCode(429).setHeader("Retry-After", "1")
+                .setBody("{\"error\":{\"code\":\"RATE_LIMIT_EXCEEDED\",\"message\":\"Slow down\"}}"));
+            server.enqueue(new MockResponse().setBody(VERIFY_BODY));
+            client.verify("a@example.com");
+
+            server.enqueue(new MockResponse().setResponseCode(503));
+            server.enqueue(new MockResponse().setBody(VERIFY_BODY));
+            client.verify("a@example.com");
+
+            server.enqueue(new MockResponse().setBody(job("processing", 1)));
+            server.enqueue(new MockResponse().setBody(job("completed", 2)));
+            client.waitForBulkJobCompletion("job_1", Duration.ofMillis(10), Duration.ofSeconds(5));
+
+            EmailVerifyClient.verifyWebhookSignature("{\"n\":\"\u00e9\"}", "sha256=00", "secret");
+
+            recording.stop();
+            Path file = dir.resolve("sdk.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        List<RecordedEvent> requests = named(events, "com.emailverify.ApiRequest");
+        assertEquals(6, requests.size());
+        RecordedEvent first = requests.get(0);
+        assertEquals("POST", first.getString("method"));
+        assertEquals("/verify", first.getString("endpoint"));
+        assertEquals(429, first.getInt("statusCode"));
+        assertEquals(1, first.getInt("attempt"));
+        assertTrue(first.getLong("requestBytes") > 0);
+        assertEquals(2, requests.get(1).getInt("attempt"));
+        assertEquals(VERIFY_BODY.length(), requests.get(1).getLong("responseBytes"));
+        assertEquals("NORMAL", first.getString("priority"));
+
+        RecordedEvent rateLimit = named(events, "com.emailverify.RateLimitWait").get(0);
+        assertEquals("server", rateLimit.getString("cause"));
+        assertEquals(1, rateLimit.getLong("retryAfter"));
+        assertTrue(rateLimit.getDuration().toMillis() >= 900);
+
+        RecordedEvent backoff = named(events, "com.emailverify.RetryBackoff").get(0);
+        assertEquals(503, backoff.getInt("statusCode"));
+        assertEquals(2000, backoff.getLong("plannedWait"));
+
+        List<RecordedEvent> polls = named(events, "com.emailverify.BulkPoll");
+        assertEquals(2, polls.size());
+        assertEquals("processing", polls.get(0).getString("jobStatus"));
+        assertEquals("completed", polls.get(1).getString("jobStatus"));
+        assertEquals(2, polls.get(1).getInt("cycle"));
+
+        RecordedEvent signature = named(events, "com.emailverify.WebhookSignature").get(0);
+        assertFalse(signature.getBoolean("valid"));
+        // Nine chars, ten UTF-8 bytes.
+        assertEquals(10, signature.getLong("payloadBytes"));
+    }
+
+    @Test
+    void recordingContainsClientSideRateLimitWaits() throws Exception {
+        List<RecordedEvent> events;
+        try (EmailVerifyClient limited = EmailVerifyClient.builder("test-api-key")
+                .baseUrl(server.url("/").toString())
+                .requestsPerSecond(5)
+                .build();
+             Recording recording = new Recording()) {
+            recording.enable(RateLimitWaitEvent.class);
+            recording.start();
+
+            server.enqueue(new MockResponse().setBody(VERIFY_BODY));
+            server.enqueue(new MockResponse().setBody(VERIFY_BODY));
+            limited.verify("a@example.com");
+            limited.verify("a@example.com");
+
+            recording.stop();
+            Path file = dir.resolve("client.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        List<RecordedEvent> waits = named(events, "com.emailverify.RateLimitWait");
+        assertEquals(1, waits.size());
+        RecordedEvent wait = waits.get(0);
+        assertEquals("client", wait.getString("cause"));
+        assertEquals("/verify", wait.getString("endpoint"));
+        assertEquals(1, wait.getInt("attempt"));
+        assertTrue(wait.getDuration().toMillis() >= 100, "waited " + wait.getDuration());
+    }
+
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream()
+            .filter(e -> e.getEventType().getName().equals(name))
+            .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+            .collect(Collectors.toList());
+    }
+
+    private static String job(String status, int processed) {
+        return "{\"job_id\":\"job_1\",\"status\":\"" + status + "\",\"total\":2,\"processed\":" + processed
+            + ",\"valid\":0,\"invalid\":0,\"unknown\":0,\"credits_used\":2}";
+    }
+}
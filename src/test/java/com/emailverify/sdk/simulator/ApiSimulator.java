@@ -0,0 +1,550 @@
+package com.emailverify.sdk.simulator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import javax.crypto.Mac;
+import javax.net.ServerSocketFactory;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process simulator of the EmailVerify API for load and resilience testing.
+ *
+ * <p>Serves {@code /verify}, {@code /verify/bulk}, {@code /verify/bulk/{id}},
+ * {@code /verify/bulk/{id}/results}, {@code /credits} and {@code /webhooks} with
+ * configurable latency, injected 429s (with {@code Retry-After}) and 5xx errors. Bulk
+ * jobs progress at a configurable rate and fire signed {@code bulk.completed} webhook
+ * callbacks to registered URLs when they finish.
+ *
+ * <p>Verification outcomes are deterministic: local parts starting with
+ * {@code invalid}, {@code unknown} or {@code catchall} produce those outcomes,
+ * {@code disposable} marks the address disposable, and everything else is valid.
+ */
+public final class ApiSimulator implements AutoCloseable {
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+
+    private final MockWebServer server = new MockWebServer();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final OkHttpClient webhookClient = new OkHttpClient();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "api-simulator-webhooks");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final LatencyDistribution latency;
+    private final double rateLimitRate;
+    private final int retryAfterSeconds;
+    private final double serverErrorRate;
+    private final double bulkItemsPerSecond;
+    private final int maxResultsLimit;
+
+    private final Map<String, BulkJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Object>> webhooks = new ConcurrentHashMap<>();
+    private final AtomicInteger ids = new AtomicInteger();
+    private final AtomicLong creditsAvailable;
+    private final AtomicLong creditsUsed = new AtomicLong();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong rateLimited = new AtomicLong();
+    private final AtomicLong serverErrors = new AtomicLong();
+    private final AtomicLong webhooksDelivered = new AtomicLong();
+
+    private record BulkJob(String id, List<String> emails, boolean smtpCheck, String webhookUrl,
+                           long createdNanos, Instant createdAt) {}
+
+    private ApiSimulator(Builder builder) {
+        this.latency = builder.latency;
+        this.rateLimitRate = builder.rateLimitRate;
+        this.retryAfterSeconds = builder.retryAfterSeconds;
+        this.serverErrorRate = builder.serverErrorRate;
+        this.bulkItemsPerSecond = builder.bulkItemsPerSecond;
+        this.maxResultsLimit = builder.maxResultsLimit;
+        this.creditsAvailable = new AtomicLong(builder.credits);
+        server.setServerSocketFactory(new NoDelayServerSocketFactory());
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return handle(request);
+            }
+        });
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public ApiSimulator start() throws IOException {
+        server.start();
+        return this;
+    }
+
+    /**
+     * Base URL to pass to {@code EmailVerifyClient.Builder#baseUrl}.
+     */
+    public String baseUrl() {
+        return server.url("/").toString();
+    }
+
+    public long requests() {
+        return requests.get();
+    }
+
+    public long rateLimited() {
+        return rateLimited.get();
+    }
+
+    public long serverErrors() {
+        return serverErrors.get();
+    }
+
+    public long webhooksDelivered() {
+        return webhooksDelivered.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        scheduler.shutdownNow();
+        webhookClient.dispatcher().executorService().shutdown();
+        webhookClient.connectionPool().evictAll();
+        server.shutdown();
+    }
+
+    private MockResponse handle(RecordedRequest request) {
+        requests.incrementAndGet();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delay = Math.max(0, latency.sampleMillis(random));
+
+        MockResponse response;
+        if (rateLimitRate > 0 && random.nextDouble() < rateLimitRate) {
+            rateLimited.incrementAndGet();
+            response = error(429, "RATE_LIMIT_EXCEEDED", "Rate limit exceeded")
+                .setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        } else if (serverErrorRate > 0 && random.nextDouble() < serverErrorRate) {
+            serverErrors.incrementAndGet();
+            response = error(503, "SERVICE_UNAVAILABLE", "Service temporarily unavailable");
+        } else {
+            try {
+                response = route(request);
+            } catch (IOException | RuntimeException e) {
+                response = error(400, "INVALID_REQUEST", e.getMessage());
+            }
+        }
+        return response.setHeadersDelay(delay, TimeUnit.MILLISECONDS);
+    }
+
+    private MockResponse route(RecordedRequest request) throws IOException {
+        HttpUrl url = request.getRequestUrl();
+        List<String> segments = url.pathSegments();
+        String method = request.getMethod();
+
+        if (segments.equals(List.of("verify")) && "POST".equals(method)) {
+            Map<String, Object> body = readBody(request);
+            String email = (String) body.get("email");
+            if (email == null || !email.contains("@")) {
+                return error(400, "INVALID_EMAIL", "Invalid email format");
+            }
+            if (creditsAvailable.get() < 1) {
+                return error(403, "INSUFFICIENT_CREDITS", "Not enough credits");
+            }
+            charge(1);
+            Map<String, Object> result = outcome(email, !Boolean.FALSE.equals(body.get("smtp_check")));
+            result.put("reason", null);
+            result.put("credits_used", 1);
+            return json(200, result);
+        }
+        if (segments.equals(List.of("verify", "bulk")) && "POST".equals(method)) {
+            Map<String, Object> body = readBody(request);
+            @SuppressWarnings("unchecked")
+            List<String> emails = (List<String>) body.get("emails");
+            if (emails == null || emails.isEmpty() || emails.size() > 10000) {
+                return error(400, "INVALID_REQUEST", "Between 1 and 10,000 emails required");
+            }
+            if (creditsAvailable.get() < emails.size()) {
+                return error(403, "INSUFFICIENT_CREDITS", "Not enough credits");
+            }
+            charge(emails.size());
+            BulkJob job = new BulkJob("job_" + ids.incrementAndGet(), List.copyOf(emails),
+                !Boolean.FALSE.equals(body.get("smtp_check")), (String) body.get("webhook_url"),
+                System.nanoTime(), Instant.now());
+            jobs.put(job.id(), job);
+            scheduleCompletionWebhook(job);
+            return json(200, jobStatus(job));
+        }
+        if (segments.size() == 3 && segments.get(0).equals("verify") && segments.get(1).equals("bulk")
+                && "GET".equals(method)) {
+            BulkJob job = jobs.get(segments.get(2));
+            return job != null ? json(200, jobStatus(job)) : error(404, "NOT_FOUND", "Job not found");
+        }
+        if (segments.size() == 4 && segments.get(0).equals("verify") && segments.get(3).equals("results")
+                && "GET".equals(method)) {
+            BulkJob job = jobs.get(segments.get(2));
+            if (job == null) {
+                return error(404, "NOT_FOUND", "Job not found");
+            }
+            return json(200, jobResults(job, url));
+        }
+        if (segments.equals(List.of("credits")) && "GET".equals(method)) {
+            Map<String, Object> credits = new LinkedHashMap<>();
+            long available = creditsAvailable.get();
+            long used = creditsUsed.get();
+            credits.put("available", available);
+            credits.put("used", used);
+            credits.put("total", available + used);
+            credits.put("plan", "Simulator");
+            credits.put("resets_at", null);
+            credits.put("rate_limit", Map.of("requests_per_hour", 1_000_000, "remaining", 1_000_000));
+            return json(200, credits);
+        }
+        if (segments.equals(List.of("webhooks"))) {
+            if ("POST".equals(method)) {
+                Map<String, Object> body = readBody(request);
+                Map<String, Object> webhook = new LinkedHashMap<>();
+                webhook.put("id", "webhook_" + ids.incrementAndGet());
+                webhook.put("url", body.get("url"));
+                webhook.put("events", body.get("events"));
+                webhook.put("created_at", Instant.now().toString());
+                webhook.put("secret", body.get("secret"));
+                webhooks.put((String) webhook.get("id"), webhook);
+                Map<String, Object> view = new LinkedHashMap<>(webhook);
+                view.remove("secret");
+                return json(200, view);
+            }
+            if ("GET".equals(method)) {
+                List<Map<String, Object>> list = new ArrayList<>();
+                for (Map<String, Object> webhook : webhooks.values()) {
+                    Map<String, Object> view = new LinkedHashMap<>(webhook);
+                    view.remove("secret");
+                    list.add(view);
+                }
+                return json(200, list);
+            }
+        }
+        if (segments.size() == 2 && segments.get(0).equals("webhooks") && "DELETE".equals(method)) {
+            return webhooks.remove(segments.get(1)) != null
+                ? new MockResponse().setResponseCode(204)
+                : error(404, "NOT_FOUND", "Webhook not found");
+        }
+        return error(404, "NOT_FOUND", "No route for " + method + " " + url.encodedPath());
+    }
+
+    private void charge(int credits) {
+        creditsAvailable.addAndGet(-credits);
+        creditsUsed.addAndGet(credits);
+    }
+
+    private int processed(BulkJob job) {
+        if (bulkItemsPerSecond <= 0) {
+            return job.emails().size();
+        }
+        double seconds = (System.nanoTime() - job.createdNanos()) / 1e9;
+        return (int) Math.min(job.emails().size(), seconds * bulkItemsPerSecond);
+    }
+
+    private Map<String, Object> jobStatus(BulkJob job) {
+        int total = job.emails().size();
+        int processed = processed(job);
+        int valid = 0;
+        int invalid = 0;
+        int unknown = 0;
+        for (int i = 0; i < processed; i++) {
+            switch (statusOf(job.emails().get(i))) {
+                case "valid" -> valid++;
+                case "invalid" -> invalid++;
+                default -> unknown++;
+            }
+        }
+        boolean completed = processed == total;
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("job_id", job.id());
+        status.put("status", completed ? "completed" : "processing");
+        status.put("total", total);
+        status.put("processed", processed);
+        status.put("valid", valid);
+        status.put("invalid", invalid);
+        status.put("unknown", unknown);
+        status.put("credits_used", total);
+        status.put("created_at", job.createdAt().toString());
+        status.put("completed_at", completed ? Instant.now().toString() : null);
+        status.put("progress_percent", total == 0 ? 100 : processed * 100 / total);
+        return status;
+    }
+
+    private Map<String, Object> jobResults(BulkJob job, HttpUrl url) {
+        int limit = Math.min(intParam(url, "limit", 100), maxResultsLimit);
+        int offset = intParam(url, "offset", 0);
+        String statusFilter = url.queryParameter("status");
+        int processed = processed(job);
+
+        List<Map<String, Object>> matching = new ArrayList<>();
+        int matched = 0;
+        for (int i = 0; i < processed; i++) {
+            String email = job.emails().get(i);
+            if (statusFilter != null && !statusFilter.equals(statusOf(email))) {
+                continue;
+            }
+            if (matched >= offset && matching.size() < limit) {
+                Map<String, Object> item = outcome(email, job.smtpCheck());
+                item.remove("credits_used");
+                matching.add(item);
+            }
+            matched++;
+        }
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        results.put("job_id", job.id());
+        results.put("total", matched);
+        results.put("limit", limit);
+        results.put("offset", offset);
+        results.put("results", matching);
+        return results;
+    }
+
+    private static String statusOf(String email) {
+        String local = email.substring(0, Math.max(0, email.indexOf('@')));
+        if (local.startsWith("invalid")) {
+            return "invalid";
+        }
+        if (local.startsWith("unknown")) {
+            return "unknown";
+        }
+        if (local.startsWith("catchall")) {
+            return "accept_all";
+        }
+        return "valid";
+    }
+
+    private static Map<String, Object> outcome(String email, boolean smtpCheck) {
+        String status = statusOf(email);
+        String local = email.substring(0, Math.max(0, email.indexOf('@')));
+        boolean valid = "valid".equals(status);
+        boolean catchall = "accept_all".equals(status);
+        boolean disposable = local.startsWith("disposable");
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("deliverable", valid && smtpCheck);
+        result.put("valid_format", true);
+        result.put("valid_domain", !"invalid".equals(status));
+        result.put("valid_mx", !"invalid".equals(status));
+        result.put("disposable", disposable);
+        result.put("role", local.startsWith("info") || local.startsWith("admin"));
+        result.put("catchall", catchall);
+        result.put("free", email.endsWith("@gmail.com") || email.endsWith("@yahoo.com"));
+        result.put("smtp_valid", valid && smtpCheck);
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("email", email);
+        response.put("status", status);
+        response.put("result", result);
+        response.put("score", valid ? 0.95 : catchall ? 0.5 : "unknown".equals(status) ? 0.3 : 0.05);
+        return response;
+    }
+
+    private void scheduleCompletionWebhook(BulkJob job) {
+        if (job.webhookUrl() == null && webhooks.isEmpty()) {
+            return;
+        }
+        long delayMillis = bulkItemsPerSecond > 0
+            ? (long) Math.ceil(job.emails().size() * 1000.0 / bulkItemsPerSecond)
+            : 0;
+        scheduler.schedule(() -> deliverCompletionWebhook(job), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void deliverCompletionWebhook(BulkJob job) {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("event", "bulk.completed");
+        event.put("created_at", Instant.now().toString());
+        event.put("data", jobStatus(job));
+
+        if (job.webhookUrl() != null) {
+            post(job.webhookUrl(), event, null);
+        }
+        for (Map<String, Object> webhook : webhooks.values()) {
+            Object events = webhook.get("events");
+            if (events instanceof List<?> list && list.contains("bulk.completed")) {
+                post((String) webhook.get("url"), event, (String) webhook.get("secret"));
+            }
+        }
+    }
+
+    private void post(String url, Map<String, Object> event, String secret) {
+        try {
+            String body = objectMapper.writeValueAsString(event);
+            Request.Builder request = new Request.Builder().url(url).post(RequestBody.create(body, JSON));
+            if (secret != null) {
+                request.header("X-EmailVerify-Signature", sign(body, secret));
+            }
+            try (Response response = webhookClient.newCall(request.build()).execute()) {
+                if (response.isSuccessful()) {
+                    webhooksDelivered.incrementAndGet();
+                }
+            }
+        } catch (Exception e) {
+            // Delivery failures are expected when the receiver is down; the real API retries later.
+        }
+    }
+
+    static String sign(String body, String secret) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return "sha256=" + HexFormat.of().formatHex(mac.doFinal(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> readBody(RecordedRequest request) throws IOException {
+        String body = request.getBody().readUtf8();
+        return body.isEmpty() ? Map.of() : objectMapper.readValue(body, Map.class);
+    }
+
+    private static int intParam(HttpUrl url, String name, int defaultValue) {
+        String value = url.queryParameter(name);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+
+    private MockResponse json(int code, Object body) {
+        try {
+            return new MockResponse()
+                .setResponseCode(code)
+                .setHeader("Content-Type", "application/json")
+                .setBody(objectMapper.writeValueAsString(body));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private MockResponse error(int code, String errorCode, String message) {
+        return json(code, Map.of("error", Map.of("code", errorCode, "message", String.valueOf(message))));
+    }
+
+    /**
+     * MockWebServer writes headers and body separately; without TCP_NODELAY, Nagle's
+     * algorithm and delayed ACKs add ~40 ms to every response and swamp the measurement.
+     */
+    private static final class NoDelayServerSocketFactory extends ServerSocketFactory {
+        @Override
+        public ServerSocket createServerSocket() throws IOException {
+            return new NoDelayServerSocket();
+        }
+
+        @Override
+        public ServerSocket createServerSocket(int port) throws IOException {
+            return createServerSocket(port, 50, null);
+        }
+
+        @Override
+        public ServerSocket createServerSocket(int port, int backlog) throws IOException {
+            return createServerSocket(port, backlog, null);
+        }
+
+        @Override
+        public ServerSocket createServerSocket(int port, int backlog, InetAddress address) throws IOException {
+            // Same binding as ServerSocketFactory.getDefault(), which builds a plain ServerSocket.
+            ServerSocket socket = new NoDelayServerSocket();
+            try {
+                socket.bind(new InetSocketAddress(address, port), backlog);
+            } catch (IOException e) {
+                socket.close();
+                throw e;
+            }
+            return socket;
+        }
+    }
+
+    private static final class NoDelayServerSocket extends ServerSocket {
+        NoDelayServerSocket() throws IOException {
+        }
+
+        @Override
+        public Socket accept() throws IOException {
+            Socket socket = super.accept();
+            socket.setTcpNoDelay(true);
+            return socket;
+        }
+    }
+
+    public static class Builder {
+        private LatencyDistribution latency = LatencyDistribution.none();
+        private double rateLimitRate;
+        private int retryAfterSeconds = 1;
+        private double serverErrorRate;
+        private double bulkItemsPerSecond;
+        private long credits = Long.MAX_VALUE / 2;
+        private int maxResultsLimit = Integer.MAX_VALUE;
+
+        private Builder() {}
+
+        public Builder latency(LatencyDistribution latency) {
+            this.latency = latency;
+            return this;
+        }
+
+        /**
+         * Fraction of requests answered with 429 and the given {@code Retry-After}.
+         */
+        public Builder rateLimit(double rate, int retryAfterSeconds) {
+            this.rateLimitRate = rate;
+            this.retryAfterSeconds = retryAfterSeconds;
+            return this;
+        }
+
+        /**
+         * Fraction of requests answered with 503.
+         */
+        public Builder serverErrorRate(double rate) {
+            this.serverErrorRate = rate;
+            return this;
+        }
+
+        /**
+         * Bulk processing speed; jobs complete instantly when zero (the default).
+         */
+        public Builder bulkItemsPerSecond(double itemsPerSecond) {
+            this.bulkItemsPerSecond = itemsPerSecond;
+            return this;
+        }
+
+        public Builder credits(long credits) {
+            this.credits = credits;
+            return this;
+        }
+
+        /**
+         * Server-side cap on the {@code limit} of a results page. Uncapped by default.
+         */
+        public Builder maxResultsLimit(int maxResultsLimit) {
+            this.maxResultsLimit = maxResultsLimit;
+            return this;
+        }
+
+        public ApiSimulator build() {
+            return new ApiSimulator(this);
+        }
+    }
+}
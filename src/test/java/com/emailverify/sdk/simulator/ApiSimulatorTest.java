@@ -0,0 +1,116 @@
+package com.emailverify.sdk.simulator;
+
+import com.emailverify.sdk.EmailVerifyClient;
+import com.emailverify.sdk.exception.RateLimitException;
+import com.emailverify.sdk.exception.ValidationException;
+import com.emailverify.sdk.model.BulkJobResponse;
+import com.emailverify.sdk.model.BulkResultsResponse;
+import com.emailverify.sdk.model.VerifyResponse;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApiSimulatorTest {
+    private ApiSimulator simulator;
+    private EmailVerifyClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        simulator = ApiSimulator.builder()
+            .latency(LatencyDistribution.uniform(Duration.ofMillis(1), Duration.ofMillis(3)))
+            .bulkItemsPerSecond(200)
+            .build()
+            .start();
+        client = EmailVerifyClient.builder("test-api-key")
+            .baseUrl(simulator.baseUrl())
+            .retries(1)
+            .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        client.close();
+        simulator.close();
+    }
+
+    @Test
+    void verifyOutcomesAreDeterministic() throws Exception {
+        VerifyResponse valid = client.verify("user@example.com");
+        VerifyResponse invalid = client.verify("invalid@example.com");
+
+        assertEquals("valid", valid.status());
+        assertTrue(valid.result().deliverable());
+        assertEquals("invalid", invalid.status());
+        assertFalse(client.verify("user@example.com", false, null).result().smtpValid());
+        assertThrows(ValidationException.class, () -> client.verify("not-an-email"));
+    }
+
+    @Test
+    void bulkJobProgressesAndPagesResults() throws Exception {
+        BulkJobResponse job = client.verifyBulk(List.of(
+            "a@example.com", "invalid1@example.com", "b@example.com", "unknown1@example.com"));
+        BulkJobResponse completed = client.waitForBulkJobCompletion(job.jobId(),
+            Duration.ofMillis(10), Duration.ofSeconds(5));
+
+        assertEquals("completed", completed.status());
+        assertEquals(2, completed.valid());
+        BulkResultsResponse page = client.getBulkJobResults(job.jobId(), 2, 1, null);
+        assertEquals(4, page.total());
+        assertEquals(List.of("invalid1@example.com", "b@example.com"),
+            page.results().stream().map(r -> r.email()).toList());
+        assertEquals(1, client.getBulkJobResults(job.jobId(), 10, 0, "invalid").total());
+    }
+
+    @Test
+    void firesSignedCompletionWebhook() throws Exception {
+        try (var receiver = new MockWebServer()) {
+            receiver.enqueue(new MockResponse());
+            receiver.start();
+            client.createWebhook(receiver.url("/hook").toString(), List.of("bulk.completed"), "secret");
+
+            client.verifyBulk(List.of("a@example.com"));
+
+            RecordedRequest delivery = receiver.takeRequest(5, TimeUnit.SECONDS);
+            assertNotNull(delivery);
+            String body = delivery.getBody().readUtf8();
+            assertTrue(body.contains("\"bulk.completed\""));
+            assertTrue(EmailVerifyClient.verifyWebhookSignature(
+                body, delivery.getHeader("X-EmailVerify-Signature"), "secret"));
+        }
+    }
+
+    @Test
+    void loadGeneratorReportsPercentiles() throws Exception {
+        LoadGenerator.Report report = new LoadGenerator(client, 4, 200, true).run();
+
+        assertEquals(200, report.succeeded());
+        assertEquals(0, report.failed());
+        assertTrue(report.p50Micros() <= report.p99Micros());
+        assertTrue(report.p99Micros() <= report.maxMicros());
+        assertTrue(report.throughput() > 0);
+        assertEquals(200, simulator.requests());
+    }
+
+    @Test
+    void injectsRateLimits() throws Exception {
+        try (var faulty = ApiSimulator.builder().rateLimit(1.0, 1).build().start();
+             var faultyClient = EmailVerifyClient.builder("test-api-key")
+                 .baseUrl(faulty.baseUrl())
+                 .retries(1)
+                 .build()) {
+            assertThrows(RateLimitException.class,
+                () -> faultyClient.verify("user@example.com"));
+            assertEquals(1, faulty.rateLimited());
+        }
+    }
+}
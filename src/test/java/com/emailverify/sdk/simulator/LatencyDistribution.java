@@ -0,0 +1,36 @@
+package com.emailverify.sdk.simulator;
+
+import java.time.Duration;
+import java.util.random.RandomGenerator;
+
+/**
+ * Source of simulated server-side latencies.
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+    long sampleMillis(RandomGenerator random);
+
+    static LatencyDistribution none() {
+        return random -> 0;
+    }
+
+    static LatencyDistribution fixed(Duration latency) {
+        long millis = latency.toMillis();
+        return random -> millis;
+    }
+
+    static LatencyDistribution uniform(Duration min, Duration max) {
+        long lo = min.toMillis();
+        long hi = max.toMillis();
+        return random -> lo == hi ? lo : random.nextLong(lo, hi + 1);
+    }
+
+    /**
+     * Log-normal latency with the given median and shape; {@code sigma} around 0.5
+     * gives the long right tail typical of SMTP probing.
+     */
+    static LatencyDistribution logNormal(Duration median, double sigma) {
+        double mu = Math.log(Math.max(1, median.toMillis()));
+        return random -> Math.round(Math.exp(mu + sigma * random.nextGaussian()));
+    }
+}
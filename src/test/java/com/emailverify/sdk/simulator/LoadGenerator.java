@@ -0,0 +1,127 @@
+package com.emailverify.sdk.simulator;
+
+import com.emailverify.sdk.EmailVerifyClient;
+import com.emailverify.sdk.exception.EmailVerifyException;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drives {@link EmailVerifyClient#verify} from a fixed number of worker threads and
+ * reports throughput and latency percentiles.
+ *
+ * <p>Run standalone against the simulator:
+ * <pre>
+ * java -cp &lt;test classpath&gt; com.emailverify.sdk.simulator.LoadGenerator \
+ *     [concurrency=32] [requests=20000] [medianLatencyMs=20] [rate429=0.01] [rate5xx=0.005]
+ * </pre>
+ */
+public final class LoadGenerator {
+    private final EmailVerifyClient client;
+    private final int concurrency;
+    private final int requests;
+    private final boolean smtpCheck;
+
+    /**
+     * Outcome of a load run. Latencies cover successful and failed calls alike.
+     */
+    public record Report(int requests, long succeeded, long failed, Duration elapsed,
+                         long p50Micros, long p90Micros, long p99Micros, long maxMicros) {
+        public double throughput() {
+            return requests / Math.max(1e-9, elapsed.toNanos() / 1e9);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d requests (%d ok, %d failed) in %d ms: %.1f req/s, "
+                    + "p50=%.2f ms p90=%.2f ms p99=%.2f ms max=%.2f ms",
+                requests, succeeded, failed, elapsed.toMillis(), throughput(),
+                p50Micros / 1000.0, p90Micros / 1000.0, p99Micros / 1000.0, maxMicros / 1000.0);
+        }
+    }
+
+    public LoadGenerator(EmailVerifyClient client, int concurrency, int requests, boolean smtpCheck) {
+        if (concurrency < 1 || requests < 1) {
+            throw new IllegalArgumentException("concurrency and requests must be positive");
+        }
+        this.client = client;
+        this.concurrency = concurrency;
+        this.requests = requests;
+        this.smtpCheck = smtpCheck;
+    }
+
+    public Report run() throws InterruptedException {
+        long[] latencies = new long[requests];
+        AtomicLong next = new AtomicLong();
+        AtomicLong succeeded = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(concurrency);
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+
+        long start = System.nanoTime();
+        for (int w = 0; w < concurrency; w++) {
+            workers.execute(() -> {
+                try {
+                    int i;
+                    while ((i = (int) next.getAndIncrement()) < requests) {
+                        String email = (i % 10 == 0 ? "invalid" : "user") + i + "@example.com";
+                        long t0 = System.nanoTime();
+                        try {
+                            client.verify(email, smtpCheck, null);
+                            succeeded.incrementAndGet();
+                        } catch (EmailVerifyException e) {
+                            failed.incrementAndGet();
+                        }
+                        latencies[i] = (System.nanoTime() - t0) / 1000;
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+
+        Arrays.sort(latencies);
+        return new Report(requests, succeeded.get(), failed.get(), elapsed,
+            percentile(latencies, 0.50), percentile(latencies, 0.90), percentile(latencies, 0.99),
+            latencies[latencies.length - 1]);
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = args.length > 0 ? Integer.parseInt(args[0]) : 32;
+        int requests = args.length > 1 ? Integer.parseInt(args[1]) : 20_000;
+        long medianLatency = args.length > 2 ? Long.parseLong(args[2]) : 20;
+        double rate429 = args.length > 3 ? Double.parseDouble(args[3]) : 0.01;
+        double rate5xx = args.length > 4 ? Double.parseDouble(args[4]) : 0.005;
+
+        try (var simulator = ApiSimulator.builder()
+                .latency(LatencyDistribution.logNormal(Duration.ofMillis(medianLatency), 0.5))
+                .rateLimit(rate429, 1)
+                .serverErrorRate(rate5xx)
+                .build()
+                .start();
+             var client = EmailVerifyClient.builder("load-test")
+                 .baseUrl(simulator.baseUrl())
+                 .build()) {
+            // Warm up connections and JIT before measuring.
+            new LoadGenerator(client, concurrency, Math.min(requests, 1000), true).run();
+            Report report = new LoadGenerator(client, concurrency, requests, true).run();
+            System.out.println("concurrency=" + concurrency + ": " + report);
+            System.out.println("simulator: " + simulator.requests() + " HTTP requests, "
+                + simulator.rateLimited() + " 429s, " + simulator.serverErrors() + " 5xx");
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.emailverify.sdk.store;
+
+import com.emailverify.sdk.model.BulkResultItem;
+import com.emailverify.sdk.model.VerificationResult;
+import com.emailverify.sdk.model.VerificationStatus;
+import com.emailverify.sdk.model.VerifyResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerificationResultStoreTest {
+    private static final VerificationResult DELIVERABLE_FREE =
+        new VerificationResult(true, true, true, true, false, false, false, true, true);
+    private static final VerificationResult DISPOSABLE =
+        new VerificationResult(false, true, true, true, true, false, false, false, false);
+
+    private static VerificationResultStore store(boolean offHeap, int expected) {
+        return offHeap ? VerificationResultStore.offHeap(expected) : VerificationResultStore.onHeap(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void storesAndLooksUpResults(boolean offHeap) {
+        var store = store(offHeap, 2);
+        store.add(new BulkResultItem("a@example.com", "valid", DELIVERABLE_FREE, 0.95));
+        store.add(new BulkResultItem("b@Example.com", "invalid", DISPOSABLE, 0.1));
+        store.add(new VerifyResponse("c@example.com", "accept_all", null, 0.5, null, 1));
+
+        assertEquals(3, store.size());
+        int row = store.find(" b@EXAMPLE.com");
+        assertEquals("b@example.com", store.email(row));
+        assertEquals(VerificationStatus.INVALID, store.status(row));
+        assertEquals(0.1f, store.score(row));
+        assertEquals(DISPOSABLE, store.result(row));
+        assertEquals(-1, store.find("missing@example.com"));
+
+        BulkResultItem item = store.get(store.find("a@example.com"));
+        assertEquals(new BulkResultItem("a@example.com", "valid", DELIVERABLE_FREE, (float) 0.95), item);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void overwriteKeepsAggregatesConsistent(boolean offHeap) {
+        var store = store(offHeap, 4);
+        store.add(new BulkResultItem("a@example.com", "unknown", DISPOSABLE, 0.2));
+        store.add(new BulkResultItem("a@example.com", "valid", DELIVERABLE_FREE, 0.9));
+
+        assertEquals(1, store.size());
+        assertEquals(0, store.count(VerificationStatus.UNKNOWN));
+        assertEquals(1, store.count(VerificationStatus.VALID));
+        assertEquals(0, store.countWithFlag(VerificationResult.DISPOSABLE));
+        assertEquals(1, store.countWithFlag(VerificationResult.FREE));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void filtersAcrossGrowth(boolean offHeap) {
+        var store = store(offHeap, 0);
+        for (int i = 0; i < 20_000; i++) {
+            boolean valid = i % 4 == 0;
+            store.add(new BulkResultItem("user" + i + "@example.com", valid ? "valid" : "invalid",
+                valid ? DELIVERABLE_FREE : DISPOSABLE, valid ? 0.9 : 0.1));
+        }
+
+        assertEquals(20_000, store.size());
+        assertEquals(5_000, store.count(VerificationStatus.VALID));
+        assertEquals(15_000, store.count(null, VerificationResult.DISPOSABLE, 0));
+        assertEquals(0, store.count(VerificationStatus.VALID, 0, VerificationResult.DELIVERABLE));
+
+        List<Integer> rows = new ArrayList<>();
+        store.forEach(VerificationStatus.VALID, VerificationResult.SMTP_VALID, 0, rows::add);
+        assertEquals(5_000, rows.size());
+        assertEquals(12_345, store.find("user12345@example.com"));
+        assertTrue(store.memoryFootprint() > 0);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void keepsMissingResultsAndUnknownStatuses(boolean offHeap) {
+        var store = store(offHeap, 4);
+        VerificationResult allFalse = VerificationResult.fromFlags(0);
+        store.add(new BulkResultItem("none@example.com", "valid", null, 0.5));
+        store.add(new BulkResultItem("zero@example.com", "valid", allFalse, 0.5));
+        store.add(new BulkResultItem("new@example.com", "greylisted", allFalse, 0.4));
+        store.add(new BulkResultItem("null@example.com", null, allFalse, 0.3));
+
+        int none = store.find("none@example.com");
+        assertFalse(store.hasResult(none));
+        assertNull(store.get(none).result());
+        assertEquals(allFalse, store.get(store.find("zero@example.com")).result());
+
+        int unknown = store.find("new@example.com");
+        assertEquals(VerificationStatus.OTHER, store.status(unknown));
+        assertEquals("greylisted", store.statusValue(unknown));
+        assertEquals("greylisted", store.get(unknown).status());
+        assertNull(store.statusValue(store.find("null@example.com")));
+        assertEquals(2, store.count(VerificationStatus.OTHER));
+        assertEquals(2, store.count(VerificationStatus.OTHER, 0, 0));
+    }
+
+    @Test
+    void rejectsInvalidFlagQuery() {
+        var store = VerificationResultStore.onHeap(1);
+        assertThrows(IllegalArgumentException.class, () ->
+            store.countWithFlag(VerificationResult.DELIVERABLE | VerificationResult.FREE));
+    }
+}
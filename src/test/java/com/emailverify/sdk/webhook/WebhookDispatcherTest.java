@@ -0,0 +1,206 @@
+package com.emailverify.sdk.webhook;
+
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WebhookDispatcherTest {
+    private static final String SECRET = "whsec_test";
+
+    @Test
+    void verifiesSignatureAndDropsDuplicates() throws Exception {
+        List<WebhookEvent> received = Collections.synchronizedList(new ArrayList<>());
+        try (WebhookDispatcher dispatcher = WebhookDispatcher.builder()
+            .secret(SECRET)
+            .on("bulk.completed", received::add)
+            .build()) {
+            String body = event("evt_1", "bulk.completed", "job_1", 1);
+
+            assertEquals(WebhookDispatcher.Outcome.INVALID_SIGNATURE, dispatcher.handle(body, "sha256=00"));
+            assertEquals(WebhookDispatcher.Outcome.INVALID_SIGNATURE, dispatcher.handle(body, null));
+            assertEquals(WebhookDispatcher.Outcome.MALFORMED, dispatcher.handle("{}", sign("{}")));
+            assertEquals(WebhookDispatcher.Outcome.ACCEPTED, dispatcher.handle(body, sign(body)));
+            assertEquals(WebhookDispatcher.Outcome.DUPLICATE, dispatcher.handle(body, sign(body)));
+            assertEquals(200, WebhookDispatcher.Outcome.DUPLICATE.statusCode());
+
+            assertTrue(dispatcher.close(Duration.ofSeconds(5)));
+        }
+        assertEquals(1, received.size());
+        assertEquals("job_1", received.get(0).jobId());
+        assertEquals(1, received.get(0).sequence());
+    }
+
+    @Test
+    void deliversEventsOfOneJobInSequenceOrder() throws Exception {
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Long> order = Collections.synchronizedList(new ArrayList<>());
+        try (WebhookDispatcher dispatcher = WebhookDispatcher.builder()
+            .secret(SECRET)
+            .onAny(event -> {
+                order.add(event.sequence());
+                if (event.sequence() == 1) {
+                    firstStarted.countDown();
+                    release.await();
+                }
+            })
+            .build()) {
+            send(dispatcher, event("evt_1", "bulk.progress", "job_1", 1));
+            assertTrue(firstStarted.await(5, TimeUnit.SECONDS));
+            send(dispatcher, event("evt_3", "bulk.completed", "job_1", 3));
+            send(dispatcher, event("evt_2", "bulk.progress", "job_1", 2));
+            release.countDown();
+
+            assertTrue(dispatcher.close(Duration.ofSeconds(5)));
+            assertEquals(List.of(1L, 2L, 3L), order);
+        }
+    }
+
+    @Test
+    void dropsEventsOlderThanOneAlreadyDelivered() throws Exception {
+        List<Long> order = Collections.synchronizedList(new ArrayList<>());
+        try (WebhookDispatcher dispatcher = WebhookDispatcher.builder()
+            .secret(SECRET)
+            .onAny(event -> order.add(event.sequence()))
+            .build()) {
+            send(dispatcher, event("evt_5", "bulk.completed", "job_1", 5));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (order.isEmpty() && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            String late = event("evt_4", "bulk.progress", "job_1", 4);
+            assertEquals(WebhookDispatcher.Outcome.STALE, dispatcher.handle(late, sign(late)));
+            assertTrue(dispatcher.close(Duration.ofSeconds(5)));
+        }
+        assertEquals(List.of(5L), order);
+    }
+
+    @Test
+    void comparesSequenceAndTimestampOnlyWithTheirOwnKind() throws Exception {
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        try (WebhookDispatcher dispatcher = WebhookDispatcher.builder()
+            .secret(SECRET)
+            .onAny(event -> {
+                order.add(event.id());
+                if (event.id().equals("evt_a")) {
+                    firstStarted.countDown();
+                    release.await();
+                }
+            })
+            .build()) {
+            // Timestamp only, then sequence only: neither is older than the other.
+            send(dispatcher, "{\"id\":\"evt_a\",\"event\":\"bulk.progress\","
+                + "\"created_at\":\"2024-06-01T00:00:00Z\",\"data\":{\"job_id\":\"job_1\"}}");
+            assertTrue(firstStarted.await(5, TimeUnit.SECONDS));
+            send(dispatcher, "{\"id\":\"evt_c\",\"event\":\"bulk.progress\",\"sequence\":3,"
+                + "\"data\":{\"job_id\":\"job_1\"}}");
+            send(dispatcher, "{\"id\":\"evt_b\",\"event\":\"bulk.progress\","
+                + "\"created_at\":\"2024-07-01T00:00:00Z\",\"data\":{\"job_id\":\"job_1\"}}");
+            send(dispatcher, "{\"id\":\"evt_d\",\"event\":\"bulk.completed\",\"sequence\":4,"
+                + "\"data\":{\"job_id\":\"job_1\"}}");
+            release.countDown();
+            assertTrue(dispatcher.close(Duration.ofSeconds(5)));
+        }
+        // evt_b shares no key with evt_c, so arrival order stands between them.
+        assertEquals(List.of("evt_a", "evt_c", "evt_b", "evt_d"), order);
+    }
+
+    @Test
+    void answersBusyWhenTooManyEventsArePending() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> handled = Collections.synchronizedList(new ArrayList<>());
+        try (WebhookDispatcher dispatcher = WebhookDispatcher.builder()
+            .secret(SECRET)
+            .maxConcurrency(1)
+            .maxPending(2)
+            .onAny(event -> {
+                release.await();
+                handled.add(event.id());
+            })
+            .build()) {
+            send(dispatcher, event("evt_1", "verification.completed", null, -1));
+            send(dispatcher, event("evt_2", "verification.completed", null, -1));
+            String third = event("evt_3", "verification.completed", null, -1);
+            WebhookDispatcher.Outcome busy = dispatcher.handle(third, sign(third));
+            assertEquals(WebhookDispatcher.Outcome.BUSY, busy);
+            assertEquals(503, busy.statusCode());
+            assertEquals(2, dispatcher.pending());
+
+            release.countDown();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (dispatcher.pending() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            // The rejected delivery was not processed, so its retry is not a duplicate.
+            assertEquals(WebhookDispatcher.Outcome.ACCEPTED, dispatcher.handle(third, sign(third)));
+            assertTrue(dispatcher.close(Duration.ofSeconds(5)));
+        }
+        assertEquals(3, handled.size());
+    }
+
+    @Test
+    void identifiesEventsWithoutIdByBody() throws Exception {
+        try (WebhookDispatcher dispatcher = WebhookDispatcher.builder().allowUnsigned(true).build()) {
+            String body = "{\"event\":\"credits.low\",\"created_at\":\"2024-01-01T00:00:00Z\",\"data\":{}}";
+            assertEquals(WebhookDispatcher.Outcome.ACCEPTED, dispatcher.handle(body, null));
+            assertEquals(WebhookDispatcher.Outcome.DUPLICATE, dispatcher.handle(body, null));
+        }
+    }
+
+    @Test
+    void builderRequiresSecretOrExplicitOptOut() {
+        assertThrows(IllegalArgumentException.class, () -> WebhookDispatcher.builder().build());
+        assertThrows(IllegalArgumentException.class, () ->
+            WebhookDispatcher.builder().secret(SECRET).maxPending(0).build());
+    }
+
+    @Test
+    void seenSetExpiresAndEvictsOldestEntries() {
+        long window = TimeUnit.SECONDS.toNanos(10);
+        var seen = new SeenSet(4, 1, window);
+        assertTrue(seen.add("a", 0));
+        assertFalse(seen.add("a", window));
+        assertTrue(seen.add("a", window + window + 1));
+
+        for (String key : List.of("b", "c", "d", "e")) {
+            assertTrue(seen.add(key, window * 3));
+        }
+        assertEquals(4, seen.size());
+        assertTrue(seen.add("a", window * 3), "oldest entry should have been evicted");
+    }
+
+    private static void send(WebhookDispatcher dispatcher, String body) throws Exception {
+        assertEquals(WebhookDispatcher.Outcome.ACCEPTED, dispatcher.handle(body, sign(body)));
+    }
+
+    private static String event(String id, String type, String jobId, long sequence) {
+        StringBuilder json = new StringBuilder("{\"id\":\"").append(id).append("\",\"event\":\"").append(type).append('"');
+        if (sequence >= 0) {
+            json.append(",\"sequence\":").append(sequence);
+        }
+        json.append(",\"created_at\":\"2024-01-01T00:00:00Z\",\"data\":{");
+        if (jobId != null) {
+            json.append("\"job_id\":\"").append(jobId).append('"');
+        }
+        return json.append("}}").toString();
+    }
+
+    private static String sign(String body) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return "sha256=" + HexFormat.of().formatHex(mac.doFinal(body.getBytes(StandardCharsets.UTF_8)));
+    }
+}